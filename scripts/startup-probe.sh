@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# Starts the trading application, measures the time until the first signal is processed, sends a few more signals
+# and stops the application again. Used as the training run of the AppCDS archive (pass
+# -XX:ArchiveClassesAtExit=<archive> to java) and to measure startup-to-first-signal time.
+#
+# Usage: startup-probe.sh <java command and arguments...>
+# Environment: PORT (default 8080), SIGNALS (signals sent after the first one, default 1000),
+#              TIMEOUT (seconds to wait for the first signal, default 120)
+
+set -u
+
+PORT="${PORT:-8080}"
+SIGNALS="${SIGNALS:-1000}"
+TIMEOUT="${TIMEOUT:-120}"
+
+# Posts signal 1 over a plain bash TCP connection, so that no HTTP client has to be installed in the image.
+# Succeeds if the application answered with a 2xx status.
+post_signal() {
+    # The redirect of the group also silences the "connection refused" of the exec itself
+    { exec 3<>"/dev/tcp/127.0.0.1/${PORT}"; } 2>/dev/null || return 1
+    printf 'POST /signal/1 HTTP/1.1\r\nHost: localhost\r\nContent-Length: 0\r\nConnection: close\r\n\r\n' >&3
+    local status
+    read -r -t 10 status <&3
+    exec 3<&-
+    [[ "${status}" == "HTTP/1.1 2"* ]]
+}
+
+start=$(date +%s%N)
+"$@" --server.port="${PORT}" &
+app=$!
+
+until post_signal; do
+    if ! kill -0 "${app}" 2>/dev/null; then
+        echo "Application exited before processing a signal." >&2
+        exit 1
+    fi
+    if (( ($(date +%s%N) - start) / 1000000000 >= TIMEOUT )); then
+        echo "No signal processed within ${TIMEOUT}s." >&2
+        kill "${app}"
+        exit 1
+    fi
+    sleep 0.05
+done
+first=$(date +%s%N)
+echo "first signal processed after $(( (first - start) / 1000000 )) ms"
+
+for (( i = 0; i < SIGNALS; i++ )); do
+    post_signal
+done
+
+# SIGTERM shuts the JVM down normally, which writes the dynamic CDS archive
+kill "${app}"
+wait "${app}"
+exit 0
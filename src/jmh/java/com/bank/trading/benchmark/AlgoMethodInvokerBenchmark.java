@@ -0,0 +1,51 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a call through the AlgoMethodInvoker against a direct virtual call of the same Algo method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlgoMethodInvokerBenchmark {
+
+    private final Algo algo = new NoOpAlgo();
+    private final AlgoMethodInvoker invoker = new AlgoMethodInvoker();
+    private final Object[] arguments = {1, 60};
+
+    @Benchmark
+    public void directNoArgs() {
+        algo.performCalc();
+    }
+
+    @Benchmark
+    public void invokeMethodNoArgs() throws Exception {
+        invoker.invokeMethodNoArgs(algo, "performCalc");
+    }
+
+    @Benchmark
+    public void directWithArgs() {
+        algo.setAlgoParam(1, 60);
+    }
+
+    @Benchmark
+    public void invokeMethodWithArgs() throws Exception {
+        invoker.invokeMethodWithArgs(algo, "setAlgoParam", arguments);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import com.bank.trading.config.SignalConfigParser;
+import com.bank.trading.config.SignalPlan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Signal plans used by the benchmarks.
+ */
+final class BenchmarkConfigs {
+
+    private static final String[] METHODS = {"setUp", "reverse", "performCalc", "submitToMarket"};
+
+    private BenchmarkConfigs() {
+    }
+
+    /**
+     * Loads the signal configuration shipped with the application.
+     *
+     * @param executorCompiler The compiler used to generate executors, or null to execute through reflection.
+     * @return The compiled plan.
+     * @throws IOException If the configuration cannot be read.
+     */
+    static SignalPlan applicationPlan(SignalExecutorCompiler executorCompiler) throws IOException {
+        try (InputStream inputStream = BenchmarkConfigs.class.getResourceAsStream("/signal-config.json")) {
+            return SignalConfigParser.parse(inputStream, "signal-config.json", executorCompiler);
+        }
+    }
+
+    /**
+     * Generates a configuration with the given number of signals, each with four actions.
+     *
+     * @param signals The number of signals.
+     * @param spacing The distance between consecutive signal IDs; large values produce a sparse plan.
+     * @return The compiled plan.
+     * @throws IOException If the configuration cannot be serialized.
+     */
+    static SignalPlan generate(int signals, int spacing) throws IOException {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        ArrayNode array = factory.arrayNode(signals);
+        for (int i = 0; i < signals; i++) {
+            ObjectNode signal = array.addObject().put("id", i * spacing);
+            ArrayNode actions = signal.putArray("actions");
+            actions.addObject().put("method", METHODS[i % METHODS.length]);
+            actions.addObject().put("method", "setAlgoParam").putArray("params").add(i % 7).add(i % 100);
+            actions.addObject().put("method", "performCalc");
+            actions.addObject().put("method", "submitToMarket");
+        }
+        byte[] config = new ObjectMapper().writeValueAsBytes(factory.objectNode().set("signals", array));
+        return SignalConfigParser.parse(new ByteArrayInputStream(config), "generated", null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.algo.stubs.Algo;
+
+/**
+ * An Algo that does nothing, so that console output does not dominate the measurements.
+ */
+public class NoOpAlgo extends Algo {
+
+    @Override
+    public void doAlgo() {
+    }
+
+    @Override
+    public void cancelTrades() {
+    }
+
+    @Override
+    public void reverse() {
+    }
+
+    @Override
+    public void submitToMarket() {
+    }
+
+    @Override
+    public void performCalc() {
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void setAlgoParam(int param, int value) {
+    }
+}
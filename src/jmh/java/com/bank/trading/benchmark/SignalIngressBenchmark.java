@@ -0,0 +1,86 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.ingress.SharedMemorySignalClient;
+import com.bank.trading.ingress.SharedMemorySignalServer;
+import com.bank.trading.ingress.TcpSignalServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trip of one signal, from sending it until its completion is seen by the producer, through the
+ * shared-memory ring and through the TCP ingress on the loopback interface. The signals are handled by a no-op
+ * SignalHandler, so the difference is the cost of the transport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignalIngressBenchmark {
+
+    private Path directory;
+    private SharedMemorySignalServer ipcServer;
+    private SharedMemorySignalClient ipcClient;
+    private TcpSignalServer tcpServer;
+    private SocketChannel tcpClient;
+    private final ByteBuffer frame = ByteBuffer.allocateDirect(TcpSignalServer.FRAME_SIZE);
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("signal-ingress");
+        ipcServer = new SharedMemorySignalServer(signal -> { }, directory.resolve("signals.ring"), 1024, false);
+        ipcServer.start();
+        ipcClient = new SharedMemorySignalClient(directory.resolve("signals.ring"));
+        tcpServer = new TcpSignalServer(signal -> { }, new InetSocketAddress("127.0.0.1", 0), 64 * 1024);
+        tcpServer.start();
+        tcpClient = SocketChannel.open(new InetSocketAddress("127.0.0.1", tcpServer.getPort()));
+        tcpClient.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        tcpClient.close();
+        tcpServer.stop();
+        ipcServer.stop();
+        Files.deleteIfExists(directory.resolve("signals.ring"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int sharedMemoryRoundTrip() {
+        return ipcClient.send(2);
+    }
+
+    @Benchmark
+    public int tcpRoundTrip() throws IOException {
+        frame.clear();
+        frame.putLong(0).putInt(2).putInt(0).flip();
+        while (frame.hasRemaining()) {
+            tcpClient.write(frame);
+        }
+        frame.clear();
+        while (frame.hasRemaining()) {
+            tcpClient.read(frame);
+        }
+        return frame.getInt(12);
+    }
+}
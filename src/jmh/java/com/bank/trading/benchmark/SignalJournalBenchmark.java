@@ -0,0 +1,73 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.config.TradingProperties.FsyncPolicy;
+import com.bank.trading.config.TradingProperties.OverflowPolicy;
+import com.bank.trading.journal.SignalJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of journaling a signal on the request thread, i.e. claiming a slot of the ring buffer and
+ * publishing a record, while the writer thread drains into memory-mapped segments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignalJournalBenchmark {
+
+    @Param({"NONE", "INTERVAL"})
+    public FsyncPolicy fsync;
+
+    private Path directory;
+    private SignalJournal journal;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("signal-journal");
+        journal = new SignalJournal(directory, 64L * 1024 * 1024, 64 * 1024, fsync, Duration.ofSeconds(1),
+                OverflowPolicy.BLOCK);
+        journal.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.stop();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void journalSignal() {
+        journal.onSignal(null, null, 2, 1_000, false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void journalSignalContended() {
+        journal.onSignal(null, null, 2, 1_000, false);
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.config.SignalConfigParser;
+import com.bank.trading.config.SignalPlan;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures the retained heap and the load time of large generated signal configurations streamed into a plan.
+ * <p>
+ * Not a JMH benchmark; compile it with {@code mvn -Pjmh test-compile} and run it in its own JVM with a large heap,
+ * e.g. {@code java -Xmx4g -cp target/classes:target/test-classes:<test classpath> ...SignalPlanFootprint unique
+ * 10000 100000 1000000}. The arguments are the shape ("repeated", where signals share their actions as in
+ * {@link BenchmarkConfigs#generate}, or "unique", where every signal sets its own parameters) and the numbers of
+ * signals. Pass a small number first, its row also includes class loading.
+ */
+public final class SignalPlanFootprint {
+
+    private static final String[] METHODS = {"setUp", "reverse", "performCalc", "submitToMarket"};
+
+    private SignalPlanFootprint() {
+    }
+
+    /**
+     * Runs the measurement.
+     *
+     * @param args The shape and the numbers of signals.
+     * @throws IOException If a configuration cannot be written or read.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean unique = "unique".equals(args[0]);
+        for (int i = 1; i < args.length; i++) {
+            int signals = Integer.parseInt(args[i]);
+            Path file = Files.createTempFile("signals-" + signals, ".json");
+            try {
+                write(file, signals, unique);
+                measure(file, signals, unique);
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Loads a configuration and prints its retained heap and load time.
+     *
+     * @param file    The configuration file.
+     * @param signals The number of signals in the configuration.
+     * @param unique  True if every signal has its own parameters.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static void measure(Path file, int signals, boolean unique) throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeap(memory);
+        long start = System.nanoTime();
+        SignalPlan plan;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            plan = SignalConfigParser.parse(inputStream, file.toString(), null);
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        long after = usedHeap(memory);
+        System.out.printf("%-8s %,9d signals  %,7d KB file  %,9d KB retained  %,5d B/signal  %,6d ms%n",
+                unique ? "unique" : "repeated", signals, Files.size(file) / 1024,
+                (after - before) / 1024, (after - before) / signals, loadMillis);
+        if (plan.size() != signals) {
+            throw new IllegalStateException("Unexpected plan size.");
+        }
+    }
+
+    /**
+     * Returns the used heap after full collections.
+     *
+     * @param memory The memory bean.
+     * @return The used heap in bytes.
+     */
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Writes a configuration with four actions per signal.
+     *
+     * @param file    The file to write.
+     * @param signals The number of signals.
+     * @param unique  True if every signal has its own parameters, false if the parameters repeat.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void write(Path file, int signals, boolean unique) throws IOException {
+        try (JsonGenerator generator = new JsonFactory().createGenerator(file.toFile(),
+                JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("signals");
+            for (int i = 0; i < signals; i++) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", i);
+                generator.writeArrayFieldStart("actions");
+                generator.writeStartObject();
+                generator.writeStringField("method", METHODS[i % METHODS.length]);
+                generator.writeEndObject();
+                generator.writeStartObject();
+                generator.writeStringField("method", "setAlgoParam");
+                generator.writeArrayFieldStart("params");
+                generator.writeNumber(unique ? i : i % 7);
+                generator.writeNumber(i % 100);
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeStartObject();
+                generator.writeStringField("method", "performCalc");
+                generator.writeEndObject();
+                generator.writeStartObject();
+                generator.writeStringField("method", "submitToMarket");
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
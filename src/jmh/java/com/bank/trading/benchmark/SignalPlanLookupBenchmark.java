@@ -0,0 +1,65 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures SignalPlan lookups of random configured and unknown IDs for configurations of 4 to 100k signals, with
+ * dense (consecutive) and sparse IDs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignalPlanLookupBenchmark {
+
+    private static final int IDS = 1024;
+
+    @Param({"4", "100", "10000", "100000"})
+    public int signals;
+
+    @Param({"1", "1000"})
+    public int spacing;
+
+    private SignalPlan plan;
+    private final int[] found = new int[IDS];
+    private final int[] unknown = new int[IDS];
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        plan = BenchmarkConfigs.generate(signals, spacing);
+        Random random = new Random(42);
+        for (int i = 0; i < IDS; i++) {
+            found[i] = random.nextInt(signals) * spacing;
+            unknown[i] = signals * spacing + random.nextInt(signals) * spacing + 1;
+        }
+    }
+
+    @Benchmark
+    public CompiledSignal lookupFound() {
+        return plan.lookup(found[next++ & (IDS - 1)]);
+    }
+
+    @Benchmark
+    public CompiledSignal lookupUnknown() {
+        return plan.lookup(unknown[next++ & (IDS - 1)]);
+    }
+}
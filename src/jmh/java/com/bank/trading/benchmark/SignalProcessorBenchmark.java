@@ -0,0 +1,68 @@
+package com.bank.trading.benchmark;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.exception.ResourceNotFoundException;
+import com.bank.trading.service.SignalProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures SignalProcessor.handleSignal for a configured signal, for an unknown signal that falls back to
+ * cancelTrades, and for signal 4, whose action "setAlgoParam" without params cannot be resolved, in both execution
+ * modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignalProcessorBenchmark {
+
+    @Param({"reflective", "compiled"})
+    public String mode;
+
+    private SignalProcessor signalProcessor;
+
+    @Setup
+    public void setUp() throws IOException {
+        SignalExecutorCompiler compiler = "compiled".equals(mode) ? new SignalExecutorCompiler() : null;
+        SignalPlan plan = BenchmarkConfigs.applicationPlan(compiler);
+        signalProcessor = new SignalProcessor(new NoOpAlgo(), new SignalPlanHolder(plan), new AlgoMethodInvoker());
+    }
+
+    @Benchmark
+    public void handleFoundSignal() {
+        signalProcessor.handleSignal(1);
+    }
+
+    @Benchmark
+    public void handleUnknownSignal() {
+        signalProcessor.handleSignal(99);
+    }
+
+    @Benchmark
+    public Object handleMisconfiguredSignal() {
+        try {
+            signalProcessor.handleSignal(4);
+            return null;
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+}
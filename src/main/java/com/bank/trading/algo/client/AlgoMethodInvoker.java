@@ -1,22 +1,56 @@
 package com.bank.trading.algo.client;
 
+import com.bank.trading.jfr.AlgoInvocationEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.IntStream;
 
 /**
  * AlgoMethodInvoker is a utility class that provides methods for invoking methods on an object using Java Reflection.
  * It is used to dynamically call methods on an object with or without arguments.
  * The class also provides utility methods for handling primitive types and their wrapper classes.
+ * <p>
+ * Resolved methods are cached per class, method name and argument types as {@link MethodHandle}s that are adapted to
+ * a fixed {@code (Object, Object[])void} shape, so the reflective search only happens the first time a call site is
+ * used and later calls are a cache hit followed by {@link MethodHandle#invokeExact}.
+ * <p>
+ * Every call is recorded as an {@link AlgoInvocationEvent} when that JFR event is enabled.
  */
 @Component
 @Slf4j
 public class AlgoMethodInvoker {
 
+    /**
+     * The shape to which every resolved method handle is adapted.
+     */
+    private static final MethodType CALL_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+    /**
+     * Marks argument type combinations for which no matching method exists.
+     */
+    private static final MethodHandle NOT_FOUND = MethodHandles.empty(CALL_TYPE);
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    /**
+     * Resolved methods per class, keyed by method name.
+     */
+    private final ClassValue<ConcurrentMap<String, ResolvedMethods>> cache = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, ResolvedMethods> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * Invokes a method on the given object without any arguments.
      *
@@ -30,13 +64,17 @@ public class AlgoMethodInvoker {
             IllegalAccessException {
 
         Class<?> cls = obj.getClass();
-        Method method = cls.getMethod(methodName);
-        if (method.getParameterCount() == 0) {
-            method.invoke(obj);
-        } else {
-            log.info("Method not found .");
+        ResolvedMethods methods = resolvedMethods(cls, methodName);
+        MethodHandle handle = methods.noArgs;
+        if (handle == null) {
+            try {
+                handle = methods.resolveNoArgs(cls, methodName);
+            } catch (NoSuchMethodException e) {
+                recordNotFound(methodName, 0);
+                throw e;
+            }
         }
-
+        invoke(handle, obj, methodName, NO_ARGUMENTS);
     }
 
     /**
@@ -52,14 +90,131 @@ public class AlgoMethodInvoker {
                                      Object... arguments) throws InvocationTargetException, IllegalAccessException {
 
         Class<?> cls = obj.getClass();
-        Method method = getMethodWithArgs(cls, methodName, arguments);
-        if (method != null) {
-            method.invoke(obj, arguments);
+        ResolvedMethods methods = resolvedMethods(cls, methodName);
+        MethodHandle handle = methods.findWithArgs(arguments);
+        if (handle == null) {
+            handle = methods.resolveWithArgs(cls, methodName, arguments);
+        }
+        if (handle != NOT_FOUND) {
+            invoke(handle, obj, methodName, arguments);
         } else {
+            recordNotFound(methodName, arguments.length);
             log.info("Method not found or arguments do not match.");
         }
     }
 
+    /**
+     * Resolves and caches the method that a call with the given arguments would invoke on instances of the class,
+     * without invoking it.
+     *
+     * @param cls        The class on which the method will be invoked.
+     * @param methodName The name of the method.
+     * @param arguments  The arguments to be passed to the method, or null for the method without parameters.
+     * @return True if a matching method exists, otherwise false.
+     * @throws IllegalAccessException If the method is not accessible due to Java access control.
+     */
+    public boolean prepare(Class<?> cls, String methodName, Object[] arguments) throws IllegalAccessException {
+        ResolvedMethods methods = resolvedMethods(cls, methodName);
+        if (arguments == null) {
+            if (methods.noArgs != null) {
+                return true;
+            }
+            try {
+                methods.resolveNoArgs(cls, methodName);
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+        MethodHandle handle = methods.findWithArgs(arguments);
+        if (handle == null) {
+            handle = methods.resolveWithArgs(cls, methodName, arguments);
+        }
+        return handle != NOT_FOUND;
+    }
+
+    /**
+     * Returns the cache entry for the given class and method name, creating it on first use.
+     *
+     * @param cls        The class on which the method is invoked.
+     * @param methodName The name of the method.
+     * @return The resolved overloads of the method.
+     */
+    private ResolvedMethods resolvedMethods(Class<?> cls, String methodName) {
+        ConcurrentMap<String, ResolvedMethods> methods = cache.get(cls);
+        ResolvedMethods resolved = methods.get(methodName);
+        return resolved != null ? resolved : methods.computeIfAbsent(methodName, name -> new ResolvedMethods());
+    }
+
+    /**
+     * Invokes a resolved method handle, wrapping anything thrown by the target like {@link Method#invoke} does.
+     *
+     * @param handle     The method handle of shape {@code (Object, Object[])void}.
+     * @param obj        The object on which the method is to be invoked.
+     * @param methodName The name of the method, for the JFR event.
+     * @param arguments  The arguments to be passed to the method.
+     * @throws InvocationTargetException If the invoked method throws an exception.
+     */
+    private static void invoke(MethodHandle handle, Object obj, String methodName, Object[] arguments)
+            throws InvocationTargetException {
+        AlgoInvocationEvent event = AlgoInvocationEvent.beginIfEnabled();
+        try {
+            handle.invokeExact(obj, arguments);
+        } catch (Throwable t) {
+            commit(event, methodName, arguments.length, AlgoInvocationEvent.OUTCOME_FAILED);
+            throw new InvocationTargetException(t);
+        }
+        commit(event, methodName, arguments.length, AlgoInvocationEvent.OUTCOME_OK);
+    }
+
+    /**
+     * Records a call for which no method was found.
+     *
+     * @param methodName    The name of the method.
+     * @param argumentCount The number of arguments of the call.
+     */
+    private static void recordNotFound(String methodName, int argumentCount) {
+        AlgoInvocationEvent event = AlgoInvocationEvent.beginIfEnabled();
+        commit(event, methodName, argumentCount, AlgoInvocationEvent.OUTCOME_NOT_FOUND);
+    }
+
+    /**
+     * Commits a JFR event if it is enabled and above its threshold.
+     *
+     * @param event         The event, begun before the call, or null if it is disabled.
+     * @param methodName    The name of the method.
+     * @param argumentCount The number of arguments of the call.
+     * @param outcome       The outcome of the call.
+     */
+    private static void commit(AlgoInvocationEvent event, String methodName, int argumentCount, String outcome) {
+        if (event == null) {
+            return;
+        }
+        // The duration, which shouldCommit compares with the threshold, is only known once the event has ended
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = methodName;
+            event.argumentCount = argumentCount;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    /**
+     * Adapts a reflective method to the {@code (Object, Object[])void} call shape, unboxing arguments as needed.
+     *
+     * @param method The method to adapt.
+     * @return The adapted method handle.
+     * @throws IllegalAccessException If the method is not accessible due to Java access control.
+     */
+    private static MethodHandle adapt(Method method) throws IllegalAccessException {
+        int parameterCount = method.getParameterCount();
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        return handle.asType(MethodType.genericMethodType(parameterCount + 1).changeReturnType(void.class))
+                .asSpreader(Object[].class, parameterCount)
+                .asType(CALL_TYPE);
+    }
+
     /**
      * Searches for a method in the given class that matches the specified method name and arguments.
      *
@@ -68,8 +223,7 @@ public class AlgoMethodInvoker {
      * @param arguments  The arguments for which to find a matching method.
      * @return The Method object representing the matching method, or null if not found.
      */
-
-    private Method getMethodWithArgs(Class<?> cls, String methodName, Object... arguments) {
+    public static Method getMethodWithArgs(Class<?> cls, String methodName, Object... arguments) {
         Method[] methods = cls.getMethods();
         return Arrays.stream(methods).filter(method -> method.getName().equals(methodName)
                 && method.getParameterCount() == arguments.length).filter(method -> {
@@ -85,7 +239,7 @@ public class AlgoMethodInvoker {
      * @param cls The class to check.
      * @return True if the class represents a primitive type, otherwise false.
      */
-    private boolean isPrimitive(Class<?> cls) {
+    private static boolean isPrimitive(Class<?> cls) {
         return cls.isPrimitive();
     }
 
@@ -96,7 +250,7 @@ public class AlgoMethodInvoker {
      * @param cls The class to compare with.
      * @return True if the object is of the same type or a wrapper class of the specified class, otherwise false.
      */
-    private boolean isWrapper(Object obj, Class<?> cls) {
+    private static boolean isWrapper(Object obj, Class<?> cls) {
         Class<?> objClass = obj.getClass();
         if (!objClass.isPrimitive()) {
             cls = getWrapperClass(cls);
@@ -110,7 +264,7 @@ public class AlgoMethodInvoker {
      * @param cls The primitive class for which to find the wrapper class.
      * @return The wrapper class for the specified primitive class.
      */
-    private Class<?> getWrapperClass(Class<?> cls) {
+    private static Class<?> getWrapperClass(Class<?> cls) {
         String className = cls.getName();
         return switch (className) {
             case "int" -> Integer.class;
@@ -124,4 +278,92 @@ public class AlgoMethodInvoker {
             default -> cls;
         };
     }
+
+    /**
+     * The resolved overloads of one method name on one class. Lookups never lock; resolution of a new argument type
+     * combination happens at most once and publishes a new copy of the overload table.
+     */
+    private static final class ResolvedMethods {
+
+        private volatile MethodHandle noArgs;
+        private volatile Overload[] overloads = new Overload[0];
+
+        /**
+         * Resolves and caches the no-argument variant of the method.
+         *
+         * @param cls        The class on which the method is invoked.
+         * @param methodName The name of the method.
+         * @return The adapted method handle.
+         * @throws NoSuchMethodException  If the class has no public method of that name without parameters.
+         * @throws IllegalAccessException If the method is not accessible due to Java access control.
+         */
+        MethodHandle resolveNoArgs(Class<?> cls, String methodName) throws NoSuchMethodException, IllegalAccessException {
+            MethodHandle handle = adapt(cls.getMethod(methodName));
+            noArgs = handle;
+            return handle;
+        }
+
+        /**
+         * Finds a cached overload matching the runtime classes of the arguments.
+         *
+         * @param arguments The arguments to be passed to the method.
+         * @return The adapted method handle, {@link #NOT_FOUND} if a previous resolution found no match, or null if
+         * these argument types have not been resolved yet.
+         */
+        MethodHandle findWithArgs(Object[] arguments) {
+            Overload[] current = overloads;
+            for (Overload overload : current) {
+                if (overload.matches(arguments)) {
+                    return overload.handle;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Searches the class for a method matching the arguments and caches the result.
+         *
+         * @param cls        The class on which the method is invoked.
+         * @param methodName The name of the method.
+         * @param arguments  The arguments to be passed to the method.
+         * @return The adapted method handle, or {@link #NOT_FOUND} if no method matches.
+         * @throws IllegalAccessException If the method is not accessible due to Java access control.
+         */
+        synchronized MethodHandle resolveWithArgs(Class<?> cls, String methodName, Object[] arguments)
+                throws IllegalAccessException {
+            MethodHandle cached = findWithArgs(arguments);
+            if (cached != null) {
+                return cached;
+            }
+            Method method = getMethodWithArgs(cls, methodName, arguments);
+            MethodHandle handle = method != null ? adapt(method) : NOT_FOUND;
+            Class<?>[] argumentTypes = new Class<?>[arguments.length];
+            Arrays.setAll(argumentTypes, i -> arguments[i].getClass());
+            Overload[] updated = Arrays.copyOf(overloads, overloads.length + 1);
+            updated[overloads.length] = new Overload(argumentTypes, handle);
+            overloads = updated;
+            return handle;
+        }
+    }
+
+    /**
+     * A cached resolution for one combination of runtime argument classes.
+     *
+     * @param argumentTypes The runtime classes of the arguments.
+     * @param handle        The adapted method handle, or {@link #NOT_FOUND}.
+     */
+    private record Overload(Class<?>[] argumentTypes, MethodHandle handle) {
+
+        boolean matches(Object[] arguments) {
+            if (arguments.length != argumentTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i].getClass() != argumentTypes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package com.bank.trading.algo.client;
+
+import com.bank.trading.algo.stubs.Algo;
+
+/**
+ * SignalExecutor runs the complete action sequence of one configured signal against an Algo instance.
+ * Implementations are generated by {@link SignalExecutorCompiler} and call the Algo methods directly.
+ */
+public interface SignalExecutor {
+
+    /**
+     * Executes the actions of the signal, in order.
+     *
+     * @param algo The Algo instance on which the actions are executed.
+     */
+    void execute(Algo algo);
+}
@@ -0,0 +1,177 @@
+package com.bank.trading.algo.client;
+
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalAction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * SignalExecutorCompiler generates one hidden class per configured signal that calls the Algo methods of the signal
+ * directly, in order, with the configured arguments as constants. For signal 1 of the sample configuration the
+ * generated {@link SignalExecutor#execute} is equivalent to:
+ * <pre>
+ *     algo.setUp();
+ *     algo.setAlgoParam(1, 60);
+ *     algo.performCalc();
+ *     algo.submitToMarket();
+ * </pre>
+ * Actions of a SignalPlan have already been resolved against {@link Algo}, and the compiler uses their
+ * {@link SignalAction#getStatus() status} and resolved method; other actions are resolved with the same rules as
+ * {@link AlgoMethodInvoker}. Signals with an action that cannot be resolved are not compiled and remain on the
+ * reflective path, which reports the error when the signal is received.
+ */
+@Slf4j
+public class SignalExecutorCompiler {
+
+    private static final String PACKAGE_NAME = SignalExecutor.class.getPackageName().replace('.', '/') + "/";
+    private static final String EXECUTOR_NAME = Type.getInternalName(SignalExecutor.class);
+    private static final String ALGO_NAME = Type.getInternalName(Algo.class);
+    private static final String EXECUTE_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Algo.class));
+
+    /**
+     * The lookup in which the executor classes are defined. Hidden classes are placed in the package of this class.
+     */
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    /**
+     * Generates an executor for the given actions.
+     *
+     * @param signalId The ID of the signal, used for naming and logging.
+     * @param actions  The actions of the signal.
+     * @return The executor, or null if an action cannot be resolved against Algo.
+     */
+    public SignalExecutor compile(int signalId, List<SignalAction> actions) {
+        Method[] methods = new Method[actions.size()];
+        for (int i = 0; i < methods.length; i++) {
+            SignalAction action = actions.get(i);
+            if (action.getStatus() != SignalAction.Status.OK) {
+                // Already reported when the action was resolved for the plan
+                return null;
+            }
+            methods[i] = action.getResolvedMethod() != null ? action.getResolvedMethod() : resolve(action);
+            if (methods[i] == null) {
+                log.warn("Signal {} is executed through reflection, action {} cannot be resolved.", signalId,
+                        actions.get(i).getMethod());
+                return null;
+            }
+        }
+
+        byte[] bytes = generate(signalId, actions, methods);
+        try {
+            MethodHandles.Lookup hidden = lookup.defineHiddenClass(bytes, true);
+            return (SignalExecutor) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to generate executor for signal " + signalId, e);
+        }
+    }
+
+    /**
+     * Resolves the Algo method called by an action that has not been resolved yet.
+     *
+     * @param action The action to resolve.
+     * @return The method, or null if Algo has no matching public method.
+     */
+    private static Method resolve(SignalAction action) {
+        if (action.hasArguments()) {
+            return AlgoMethodInvoker.getMethodWithArgs(Algo.class, action.getMethod(), action.getArguments());
+        }
+        try {
+            return Algo.class.getMethod(action.getMethod());
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Generates the bytecode of the executor class.
+     *
+     * @param signalId The ID of the signal.
+     * @param actions  The actions of the signal.
+     * @param methods  The resolved method of each action.
+     * @return The class file bytes.
+     */
+    private byte[] generate(int signalId, List<SignalAction> actions, Method[] methods) {
+        String className = PACKAGE_NAME + "Signal" + (signalId < 0 ? "M" + -(long) signalId : signalId) + "Executor";
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, className, null,
+                Type.getInternalName(Object.class), new String[]{EXECUTOR_NAME});
+
+        MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", "()V", false);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        MethodVisitor execute = cw.visitMethod(Opcodes.ACC_PUBLIC, "execute", EXECUTE_DESCRIPTOR, null, null);
+        execute.visitCode();
+        for (int i = 0; i < methods.length; i++) {
+            Method method = methods[i];
+            execute.visitVarInsn(Opcodes.ALOAD, 1);
+            Object[] arguments = actions.get(i).getArguments();
+            for (int a = 0; arguments != null && a < arguments.length; a++) {
+                pushConstant(execute, arguments[a]);
+            }
+            execute.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ALGO_NAME, method.getName(),
+                    Type.getMethodDescriptor(method), false);
+            Type returnType = Type.getReturnType(method);
+            if (returnType.getSize() == 1) {
+                execute.visitInsn(Opcodes.POP);
+            } else if (returnType.getSize() == 2) {
+                execute.visitInsn(Opcodes.POP2);
+            }
+        }
+        execute.visitInsn(Opcodes.RETURN);
+        execute.visitMaxs(0, 0);
+        execute.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Pushes a converted configuration argument onto the operand stack as a primitive constant.
+     *
+     * @param mv       The method being generated.
+     * @param argument An Integer, Double or Boolean argument.
+     */
+    private static void pushConstant(MethodVisitor mv, Object argument) {
+        if (argument instanceof Integer value) {
+            pushInt(mv, value);
+        } else if (argument instanceof Boolean value) {
+            pushInt(mv, value ? 1 : 0);
+        } else if (argument instanceof Double value) {
+            mv.visitLdcInsn(value);
+        } else {
+            throw new IllegalArgumentException("Unsupported argument type " + argument.getClass().getName());
+        }
+    }
+
+    /**
+     * Pushes an int constant using the shortest instruction.
+     *
+     * @param mv    The method being generated.
+     * @param value The constant.
+     */
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value >= -1 && value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bank.trading.config;
+
+import com.bank.trading.service.AlgoStateShadow;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * AlgoStateConfig is a configuration class responsible for the optional shadow of the parameters set on the Algo.
+ * A shadow tracks exactly one Algo, so a new one is created for every SignalProcessor, including those of the shards.
+ */
+@Configuration
+public class AlgoStateConfig {
+
+    /**
+     * Creates a shadow of the parameters of an Algo when "trading.algo-state.shadow" is set.
+     *
+     * @param properties The trading properties, which hold the reset methods and the execution mode.
+     * @return AlgoStateShadow - A new shadow with all parameters unknown.
+     * @throws IllegalStateException If the compiled execution mode is enabled, whose executors bypass the shadow.
+     */
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    @ConditionalOnProperty(prefix = "trading.algo-state", name = "shadow", havingValue = "true")
+    public AlgoStateShadow algoStateShadow(TradingProperties properties) {
+        if (properties.getExecution().getMode() == TradingProperties.ExecutionMode.COMPILED) {
+            throw new IllegalStateException(
+                    "trading.algo-state.shadow cannot be combined with trading.execution.mode=compiled.");
+        }
+        return new AlgoStateShadow(properties.getAlgoState().getResetMethods());
+    }
+}
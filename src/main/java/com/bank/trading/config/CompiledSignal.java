@@ -0,0 +1,80 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.SignalExecutor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * CompiledSignal is the entry of a {@link SignalPlan} for one configured signal ID.
+ */
+@Getter
+public final class CompiledSignal {
+
+    /**
+     * The ID of the signal.
+     */
+    private final int id;
+
+    /**
+     * The position of the signal in the plan, from 0 to {@code plan.size() - 1}. Can be used to index per-signal
+     * state in plain arrays.
+     */
+    private final int ordinal;
+
+    /**
+     * The immutable list of actions of the signal.
+     */
+    private final List<SignalAction> actions;
+
+    /**
+     * The generated executor of the actions, or null if the signal is executed through reflection.
+     */
+    private final SignalExecutor executor;
+
+    /**
+     * The shard key configured for the signal, or null. Used to route the signal in sharded execution mode.
+     */
+    private final String shardKey;
+
+    /**
+     * The priority configured for the signal, {@link Priority#NORMAL} if none is configured. Used by the admission
+     * control.
+     */
+    private final Priority priority;
+
+    /**
+     * Creates a new plan entry.
+     *
+     * @param id       The ID of the signal.
+     * @param ordinal  The position of the signal in the plan.
+     * @param actions  The immutable list of actions of the signal.
+     * @param executor The generated executor of the actions, or null.
+     * @param shardKey The configured shard key, or null.
+     * @param priority The configured priority.
+     */
+    public CompiledSignal(int id, int ordinal, List<SignalAction> actions, SignalExecutor executor, String shardKey,
+                          Priority priority) {
+        this.id = id;
+        this.ordinal = ordinal;
+        this.actions = actions;
+        this.executor = executor;
+        this.shardKey = shardKey;
+        this.priority = priority;
+    }
+
+    /**
+     * The priority class of a signal, configured as "priority" of the signal.
+     */
+    public enum Priority {
+        /**
+         * The signal is never queued or shed by the admission control, e.g. for signals that cancel or reverse
+         * trades. Signals that are not configured, which cancel all trades, have this priority as well.
+         */
+        CRITICAL,
+        /**
+         * The signal is subject to the concurrency and rate limits of the admission control.
+         */
+        NORMAL
+    }
+}
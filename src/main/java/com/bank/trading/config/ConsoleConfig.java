@@ -0,0 +1,27 @@
+package com.bank.trading.config;
+
+import com.bank.trading.console.AsyncConsole;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ConsoleConfig is a configuration class responsible for the optional asynchronous console, which takes the output of
+ * the Algo and the console logging off the request threads.
+ */
+@Configuration
+public class ConsoleConfig {
+
+    /**
+     * Creates the asynchronous console when "trading.console.async" is set.
+     *
+     * @param properties The trading properties, which hold the console settings.
+     * @return AsyncConsole - The console.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.console", name = "async", havingValue = "true")
+    public AsyncConsole asyncConsole(TradingProperties properties) {
+        TradingProperties.Console console = properties.getConsole();
+        return new AsyncConsole(console.getCapacity(), console.getOverflow());
+    }
+}
@@ -0,0 +1,50 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.ingress.SharedMemorySignalServer;
+import com.bank.trading.ingress.TcpSignalServer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+
+/**
+ * IngressConfig is a configuration class responsible for the optional, non-HTTP ways of receiving signals. Every
+ * ingress dispatches to the primary SignalHandler, exactly like the REST controller.
+ */
+@Configuration
+public class IngressConfig {
+
+    /**
+     * Creates the binary TCP signal server when "trading.tcp.enabled" is set.
+     *
+     * @param signalHandler The primary SignalHandler.
+     * @param properties    The trading properties, which hold the address and buffer settings.
+     * @return TcpSignalServer - The TCP signal server.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.tcp", name = "enabled", havingValue = "true")
+    public TcpSignalServer tcpSignalServer(SignalHandler signalHandler, TradingProperties properties) {
+        TradingProperties.Tcp tcp = properties.getTcp();
+        return new TcpSignalServer(signalHandler, new InetSocketAddress(tcp.getBindAddress(), tcp.getPort()),
+                tcp.getBufferSize());
+    }
+
+    /**
+     * Creates the shared-memory signal server when "trading.ipc.enabled" is set.
+     *
+     * @param signalHandler The primary SignalHandler.
+     * @param properties    The trading properties, which hold the ring file settings.
+     * @return SharedMemorySignalServer - The shared-memory signal server.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.ipc", name = "enabled", havingValue = "true")
+    public SharedMemorySignalServer sharedMemorySignalServer(SignalHandler signalHandler,
+                                                             TradingProperties properties) {
+        TradingProperties.Ipc ipc = properties.getIpc();
+        return new SharedMemorySignalServer(signalHandler, Path.of(ipc.getFile()), ipc.getCapacity(),
+                ipc.isBusySpin());
+    }
+}
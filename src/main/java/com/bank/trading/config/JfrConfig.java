@@ -0,0 +1,45 @@
+package com.bank.trading.config;
+
+import com.bank.trading.jfr.SignalFlightRecorder;
+import jdk.jfr.Configuration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * JfrConfig is a configuration class responsible for the optional continuous flight recording of the application,
+ * including the signal and Algo invocation events.
+ */
+@org.springframework.context.annotation.Configuration
+public class JfrConfig {
+
+    /**
+     * Creates the flight recorder when "trading.jfr.enabled" is set.
+     *
+     * @param properties     The trading properties, which hold the recording settings.
+     * @param resourceLoader The ResourceLoader used to resolve the location of the event settings.
+     * @return SignalFlightRecorder - The flight recorder.
+     * @throws IOException    If the event settings cannot be read.
+     * @throws ParseException If the event settings are not a valid JFR configuration.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.jfr", name = "enabled", havingValue = "true")
+    public SignalFlightRecorder signalFlightRecorder(TradingProperties properties, ResourceLoader resourceLoader)
+            throws IOException, ParseException {
+        TradingProperties.Jfr jfr = properties.getJfr();
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(resourceLoader.getResource(jfr.getSettings()).getInputStream(),
+                StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+        return new SignalFlightRecorder(configuration, Path.of(jfr.getDestination()), jfr.getMaxAge(),
+                jfr.getMaxSize().toBytes());
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.trading.config;
+
+import com.bank.trading.journal.SignalJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * JournalConfig is a configuration class responsible for the optional journal of handled signals and executed
+ * actions. The journal is a SignalExecutionListener, so the SignalProcessor feeds it once it is created.
+ */
+@Configuration
+public class JournalConfig {
+
+    /**
+     * Creates the signal journal when "trading.journal.enabled" is set.
+     *
+     * @param properties The trading properties, which hold the journal settings.
+     * @return SignalJournal - The journal.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.journal", name = "enabled", havingValue = "true")
+    public SignalJournal signalJournal(TradingProperties properties) {
+        TradingProperties.Journal journal = properties.getJournal();
+        return new SignalJournal(Path.of(journal.getDirectory()), journal.getSegmentSize().toBytes(),
+                journal.getCapacity(), journal.getFsync(), journal.getFsyncInterval(), journal.getOverflow());
+    }
+}
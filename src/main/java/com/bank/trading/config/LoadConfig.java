@@ -1,20 +1,20 @@
 package com.bank.trading.config;
 
 import com.bank.trading.algo.stubs.Algo;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ResourceLoader;
 
 import java.io.IOException;
-import java.io.InputStream;
 /**
  * LoadConfig is a configuration class responsible for creating beans and reading the configuration from a JSON file.
  * The class is annotated with @Configuration, indicating that it contains Spring configuration beans.
  */
 @Configuration
+@EnableConfigurationProperties(TradingProperties.class)
 @AllArgsConstructor
 public class LoadConfig {
 
@@ -23,6 +23,11 @@ public class LoadConfig {
      */
     private final ResourceLoader resourceLoader;
 
+    /**
+     * The trading properties, which hold the location of the signal configuration and the execution mode.
+     */
+    private final TradingProperties properties;
+
     /**
      * Creates a new instance of the Algo bean and registers it with the Spring container.
      * The Algo bean is used to represent a stub for the trading algorithm.
@@ -35,19 +40,41 @@ public class LoadConfig {
     }
 
     /**
-     * Reads the configuration data from a JSON file and converts it into a JsonNode object.
-     * The JSON file is specified by the configFilePath variable, and it is read using the ResourceLoader.
-     * The ObjectMapper class is used to parse the JSON data and create the JsonNode object.
+     * Creates the loader that reads and compiles the signal configuration from the location configured in
+     * "trading.config.location".
      *
-     * @return JsonNode - The root node of the JSON configuration data.
+     * @return SignalConfigLoader - The loader of the signal configuration.
+     */
+    @Bean
+    public SignalConfigLoader signalConfigLoader() {
+        return new SignalConfigLoader(resourceLoader, properties);
+    }
+
+    /**
+     * Compiles the signal configuration into a SignalPlan, so that signals can be looked up by ID in constant time
+     * without walking the JSON tree on every request, and publishes it through a SignalPlanHolder so that it can be
+     * replaced when the configuration is reloaded. In the compiled execution mode an executor class is generated for
+     * every distinct sequence of actions as well. The configuration is compiled while it is streamed from the
+     * "trading.config.location", so no JSON tree of it is kept in the context.
+     *
+     * @return SignalPlanHolder - The holder of the active signal plan.
      * @throws IOException if there is an error while reading the JSON file.
      */
     @Bean
-    public JsonNode readConfig() throws IOException {
-        String configFilePath = "classpath:signal-config.json";
-        try (InputStream inputStream = resourceLoader.getResource(configFilePath).getInputStream()) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readTree(inputStream);
-        }
+    public SignalPlanHolder signalPlanHolder() throws IOException {
+        return new SignalPlanHolder(signalConfigLoader().load());
+    }
+
+    /**
+     * Creates the watcher that hot reloads the signal configuration when "trading.config.watch" is enabled.
+     *
+     * @param signalPlanHolder The holder to which reloaded plans are published.
+     * @return SignalConfigWatcher - The configuration watcher.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.config", name = "watch", havingValue = "true")
+    public SignalConfigWatcher signalConfigWatcher(SignalPlanHolder signalPlanHolder) {
+        return new SignalConfigWatcher(signalConfigLoader(), signalPlanHolder,
+                properties.getConfig().getWatchDebounce());
     }
 }
@@ -0,0 +1,116 @@
+package com.bank.trading.config;
+
+import com.bank.trading.exception.ResourceNotFoundException;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+
+/**
+ * SignalAction is a single, pre-parsed step of a configured signal: the name of the Algo method to call and the
+ * arguments to pass to it. Arguments are converted from JSON once, when the signal configuration is compiled, so
+ * that executing an action does not walk the JSON tree or allocate.
+ * <p>
+ * Actions compiled from a configuration are also resolved against Algo at that time. The outcome is kept as a
+ * {@link Status}, so that a misconfigured action is reported without reflection or a new exception when it runs, and
+ * the resolved method is kept for the SignalExecutorCompiler, so that it does not resolve the action again.
+ */
+@Getter
+public final class SignalAction {
+
+    /**
+     * The outcome of resolving an action against Algo.
+     */
+    public enum Status {
+
+        /**
+         * Algo has a matching method, or the action has not been resolved.
+         */
+        OK,
+
+        /**
+         * Algo has no overload matching the arguments; the action is skipped, as AlgoMethodInvoker would do.
+         */
+        NO_MATCHING_OVERLOAD,
+
+        /**
+         * Algo has no method without parameters of that name; the signal fails with {@link #getFailure()}.
+         */
+        NO_SUCH_METHOD
+    }
+
+    /**
+     * The name of the Algo method to be invoked.
+     */
+    private final String method;
+
+    /**
+     * The converted arguments, or null if the action was configured without "params".
+     */
+    private final Object[] arguments;
+
+    /**
+     * The outcome of resolving the action against Algo.
+     */
+    private final Status status;
+
+    /**
+     * The stackless exception thrown for a {@link Status#NO_SUCH_METHOD} action, or null.
+     */
+    private final ResourceNotFoundException failure;
+
+    /**
+     * The Algo method the action calls, or null if the action has not been resolved or cannot be.
+     */
+    private final Method resolvedMethod;
+
+    /**
+     * Creates a new action that has not been resolved.
+     *
+     * @param method    The name of the Algo method to be invoked.
+     * @param arguments The converted arguments, or null if the method takes no arguments.
+     */
+    public SignalAction(String method, Object[] arguments) {
+        this(method, arguments, Status.OK, null, null);
+    }
+
+    /**
+     * Creates a new action that has been resolved to an Algo method.
+     *
+     * @param method         The name of the Algo method to be invoked.
+     * @param arguments      The converted arguments, or null if the method takes no arguments.
+     * @param resolvedMethod The Algo method the action calls.
+     */
+    public SignalAction(String method, Object[] arguments, Method resolvedMethod) {
+        this(method, arguments, Status.OK, null, resolvedMethod);
+    }
+
+    /**
+     * Creates a new action that could not be resolved against Algo.
+     *
+     * @param method    The name of the Algo method to be invoked.
+     * @param arguments The converted arguments, or null if the method takes no arguments.
+     * @param status    The outcome of resolving the action against Algo.
+     * @param failure   The exception to throw for a {@link Status#NO_SUCH_METHOD} action, or null.
+     */
+    public SignalAction(String method, Object[] arguments, Status status, ResourceNotFoundException failure) {
+        this(method, arguments, status, failure, null);
+    }
+
+    private SignalAction(String method, Object[] arguments, Status status, ResourceNotFoundException failure,
+                         Method resolvedMethod) {
+        this.method = method;
+        this.arguments = arguments;
+        this.status = status;
+        this.failure = failure;
+        this.resolvedMethod = resolvedMethod;
+    }
+
+    /**
+     * Checks whether the action was configured with a "params" element.
+     *
+     * @return True if the method is to be invoked with arguments, otherwise false.
+     */
+    public boolean hasArguments() {
+        return arguments != null;
+    }
+}
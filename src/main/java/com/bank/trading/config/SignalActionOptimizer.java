@@ -0,0 +1,107 @@
+package com.bank.trading.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SignalActionOptimizer removes {@code setAlgoParam} actions from a signal that cannot change the state of the Algo,
+ * when the configuration is loaded:
+ * <ul>
+ *     <li>a write that is overwritten later in the same run of consecutive {@code setAlgoParam} actions, and</li>
+ *     <li>a write of the value the parameter was already set to earlier in the signal.</li>
+ * </ul>
+ * It assumes that only {@code setAlgoParam} and the configured reset methods change the parameters of the Algo; a reset
+ * method makes all parameters unknown again. Actions after one that fails the signal are kept as they are. The
+ * parameters the Algo has when a signal starts are not known here, see the AlgoStateShadow of the SignalProcessor for
+ * writes that are redundant across signals.
+ */
+public final class SignalActionOptimizer {
+
+    /**
+     * The Algo method whose first argument is the key and whose second argument is the value of a parameter.
+     */
+    public static final String SET_ALGO_PARAM = "setAlgoParam";
+
+    private final Set<String> resetMethods;
+
+    /**
+     * Creates a new optimizer.
+     *
+     * @param resetMethods The names of the Algo methods that reset the parameters.
+     */
+    public SignalActionOptimizer(Collection<String> resetMethods) {
+        this.resetMethods = Set.copyOf(resetMethods);
+    }
+
+    /**
+     * Checks whether an action sets a parameter.
+     *
+     * @param action The action.
+     * @return True if the action is a resolved {@code setAlgoParam} call with a key and a value.
+     */
+    public static boolean isParamWrite(SignalAction action) {
+        return action.getStatus() == SignalAction.Status.OK && SET_ALGO_PARAM.equals(action.getMethod())
+                && action.hasArguments() && action.getArguments().length == 2;
+    }
+
+    /**
+     * Removes the redundant parameter writes of a signal.
+     *
+     * @param actions The actions of the signal, in execution order.
+     * @return The given list if no action is redundant, otherwise a new list without the redundant actions.
+     */
+    public List<SignalAction> optimize(List<SignalAction> actions) {
+        boolean[] redundant = new boolean[actions.size()];
+        boolean found = false;
+        Map<Object, Object> known = new HashMap<>();
+        for (int i = 0; i < actions.size(); i++) {
+            SignalAction action = actions.get(i);
+            if (action.getStatus() == SignalAction.Status.NO_SUCH_METHOD) {
+                break;
+            }
+            if (resetMethods.contains(action.getMethod())) {
+                known.clear();
+            } else if (isParamWrite(action)) {
+                Object key = action.getArguments()[0];
+                Object value = action.getArguments()[1];
+                if (value.equals(known.get(key)) || isOverwrittenInRun(actions, i, key)) {
+                    redundant[i] = true;
+                    found = true;
+                } else {
+                    known.put(key, value);
+                }
+            }
+        }
+        if (!found) {
+            return actions;
+        }
+        List<SignalAction> optimized = new ArrayList<>(actions.size());
+        for (int i = 0; i < actions.size(); i++) {
+            if (!redundant[i]) {
+                optimized.add(actions.get(i));
+            }
+        }
+        return optimized;
+    }
+
+    /**
+     * Checks whether a parameter is written again before any other action follows.
+     *
+     * @param actions The actions of the signal.
+     * @param index   The index of the write.
+     * @param key     The key of the parameter.
+     * @return True if a later write in the same run of parameter writes has the same key.
+     */
+    private static boolean isOverwrittenInRun(List<SignalAction> actions, int index, Object key) {
+        for (int i = index + 1; i < actions.size() && isParamWrite(actions.get(i)); i++) {
+            if (key.equals(actions.get(i).getArguments()[0])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * SignalConfigLoader reads the signal configuration from the configured location and compiles it into a SignalPlan.
+ * It is used once at startup and again for every reload of the configuration.
+ */
+public class SignalConfigLoader {
+
+    private final ResourceLoader resourceLoader;
+    private final TradingProperties properties;
+
+    /**
+     * Creates a new loader.
+     *
+     * @param resourceLoader The ResourceLoader used to resolve the configuration location.
+     * @param properties     The trading properties, which hold the location and the execution mode.
+     */
+    public SignalConfigLoader(ResourceLoader resourceLoader, TradingProperties properties) {
+        this.resourceLoader = resourceLoader;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the resource of the signal configuration.
+     *
+     * @return The configuration resource, e.g. a classpath or file resource.
+     */
+    public Resource getResource() {
+        return resourceLoader.getResource(properties.getConfig().getLocation());
+    }
+
+    /**
+     * Reads the configuration and compiles it into a plan while it is parsed, generating executors in the compiled
+     * execution mode and removing redundant parameter writes if "trading.algo-state.optimize" is set. No JSON tree
+     * of the configuration is built, see {@link SignalConfigParser}.
+     *
+     * @return SignalPlan - The compiled plan.
+     * @throws IOException              if there is an error while reading the JSON file.
+     * @throws IllegalArgumentException If the configuration has no "signals" array or an action has no method.
+     */
+    public SignalPlan load() throws IOException {
+        boolean compiled = properties.getExecution().getMode() == TradingProperties.ExecutionMode.COMPILED;
+        TradingProperties.AlgoState algoState = properties.getAlgoState();
+        try (InputStream inputStream = getResource().getInputStream()) {
+            return SignalConfigParser.parse(inputStream, properties.getConfig().getLocation(),
+                    compiled ? new SignalExecutorCompiler() : null,
+                    algoState.isOptimize() ? new SignalActionOptimizer(algoState.getResetMethods()) : null);
+        }
+    }
+}
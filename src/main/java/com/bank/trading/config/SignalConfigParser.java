@@ -0,0 +1,238 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SignalConfigParser compiles a signal configuration into a SignalPlan while it is read, without building a JSON tree.
+ * <p>
+ * Only the actions of the signal being parsed are buffered, everything else is interned into the plan as it is read
+ * (see {@link SignalPlan.Builder}), so the memory needed to load a configuration is about the memory of the plan
+ * itself. The fields of a signal may appear in any order, unknown fields are skipped and signals without an integer
+ * "id" are ignored.
+ */
+public final class SignalConfigParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private SignalConfigParser() {
+    }
+
+    /**
+     * Parses and compiles a signal configuration.
+     *
+     * @param inputStream      The JSON signal configuration; it is not closed.
+     * @param source           The location of the configuration, used in error messages.
+     * @param executorCompiler The compiler used to generate an executor per distinct sequence of actions, or null to
+     *                         execute all signals through reflection.
+     * @return The compiled plan.
+     * @throws IOException              If the configuration cannot be read or is not valid JSON.
+     * @throws IllegalArgumentException If the configuration has no "signals" array, an action has no method, or a
+     *                                  signal is configured with different shard keys or priorities, or with an
+     *                                  unknown priority.
+     */
+    public static SignalPlan parse(InputStream inputStream, String source, SignalExecutorCompiler executorCompiler)
+            throws IOException {
+        return parse(inputStream, source, executorCompiler, null);
+    }
+
+    /**
+     * Parses and compiles a signal configuration, removing redundant parameter writes from the signals.
+     *
+     * @param inputStream      The JSON signal configuration; it is not closed.
+     * @param source           The location of the configuration, used in error messages.
+     * @param executorCompiler The compiler used to generate an executor per distinct sequence of actions, or null to
+     *                         execute all signals through reflection.
+     * @param optimizer        The optimizer applied to the actions of every signal, or null.
+     * @return The compiled plan.
+     * @throws IOException              If the configuration cannot be read or is not valid JSON.
+     * @throws IllegalArgumentException If the configuration has no "signals" array, an action has no method, or a
+     *                                  signal is configured with different shard keys or priorities, or with an
+     *                                  unknown priority.
+     */
+    public static SignalPlan parse(InputStream inputStream, String source, SignalExecutorCompiler executorCompiler,
+                                   SignalActionOptimizer optimizer) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            SignalPlan.Builder builder = null;
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if ("signals".equals(field)) {
+                        // A repeated field replaces the previous one, as in a JSON tree
+                        builder = null;
+                        if (value == JsonToken.START_ARRAY) {
+                            builder = new SignalPlan.Builder(executorCompiler, optimizer);
+                            parseSignals(parser, builder);
+                            continue;
+                        }
+                    }
+                    parser.skipChildren();
+                }
+            }
+            if (builder == null) {
+                throw new IllegalArgumentException("Signal configuration " + source
+                        + " does not contain a \"signals\" array.");
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Parses the elements of the "signals" array.
+     *
+     * @param parser  The parser, positioned on the start of the array.
+     * @param builder The builder to which the signals are added.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static void parseSignals(JsonParser parser, SignalPlan.Builder builder) throws IOException {
+        List<ParsedAction> actions = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            actions.clear();
+            Integer id = null;
+            String shardKey = null;
+            String priority = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> id = value == JsonToken.VALUE_NUMBER_INT
+                            && parser.getNumberType() == JsonParser.NumberType.INT ? parser.getIntValue() : null;
+                    case "shardKey" -> shardKey = value.isScalarValue() && value != JsonToken.VALUE_NULL
+                            ? scalarText(parser, value) : null;
+                    case "priority" -> priority = value.isScalarValue() && value != JsonToken.VALUE_NULL
+                            ? scalarText(parser, value) : null;
+                    case "actions" -> {
+                        actions.clear();
+                        if (value.isStructStart()) {
+                            while (nextElement(parser, value)) {
+                                actions.add(parseAction(parser));
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (id != null) {
+                List<SignalAction> compiled = new ArrayList<>(actions.size());
+                for (ParsedAction action : actions) {
+                    compiled.add(builder.action(id, action.method, action.arguments));
+                }
+                builder.add(id, shardKey, priority, compiled);
+            }
+        }
+    }
+
+    /**
+     * Parses an action. Its method is validated once the ID of the signal is known.
+     *
+     * @param parser The parser, positioned on the first token of the action.
+     * @return The parsed action.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static ParsedAction parseAction(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return new ParsedAction(null, null);
+        }
+        String method = null;
+        Object[] arguments = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("method".equals(field)) {
+                method = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+            } else if ("params".equals(field)) {
+                arguments = parseParams(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new ParsedAction(method, arguments);
+    }
+
+    /**
+     * Parses the parameters of an action. Numbers, booleans and strings are converted to the Integer, Double, Boolean
+     * and String arguments of the Algo method; other values are ignored.
+     *
+     * @param parser The parser, positioned on the "params" value.
+     * @param token  The current token.
+     * @return The arguments, empty if "params" is not an array or object.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static Object[] parseParams(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isStructStart()) {
+            return new Object[0];
+        }
+        List<Object> values = new ArrayList<>();
+        while (nextElement(parser, token)) {
+            switch (parser.currentToken()) {
+                case VALUE_NUMBER_INT -> {
+                    if (parser.getNumberType() == JsonParser.NumberType.INT) {
+                        values.add(parser.getIntValue());
+                    }
+                }
+                case VALUE_NUMBER_FLOAT -> values.add(parser.getDoubleValue());
+                case VALUE_TRUE -> values.add(Boolean.TRUE);
+                case VALUE_FALSE -> values.add(Boolean.FALSE);
+                case VALUE_STRING -> values.add(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+        return values.toArray();
+    }
+
+    /**
+     * Moves to the next element of an array, or to the value of the next field of an object.
+     *
+     * @param parser    The parser, positioned after the previous element or on the start of the container.
+     * @param container The start token of the container.
+     * @return False at the end of the container.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static boolean nextElement(JsonParser parser, JsonToken container) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (container == JsonToken.START_OBJECT && token == JsonToken.FIELD_NAME) {
+            token = parser.nextToken();
+        }
+        return token != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT;
+    }
+
+    /**
+     * Returns the text of a scalar value the way a JSON tree would.
+     *
+     * @param parser The parser, positioned on the value.
+     * @param token  The current token.
+     * @return The text of the value.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.INT
+                    ? String.valueOf(parser.getIntValue()) : parser.getText();
+            case VALUE_NUMBER_FLOAT -> String.valueOf(parser.getDoubleValue());
+            default -> parser.getText();
+        };
+    }
+
+    /**
+     * An action whose method has not been validated yet.
+     *
+     * @param method    The name of the Algo method, or null.
+     * @param arguments The converted arguments, or null if the action has no "params".
+     */
+    private record ParsedAction(String method, Object[] arguments) {
+    }
+}
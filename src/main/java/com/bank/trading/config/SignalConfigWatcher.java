@@ -0,0 +1,150 @@
+package com.bank.trading.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+/**
+ * SignalConfigWatcher watches the signal configuration file and hot reloads it when it changes. Every new version is
+ * read, validated and compiled on the watcher thread; only a successfully compiled plan is published to the
+ * SignalPlanHolder, so a broken file never replaces a working configuration.
+ */
+@Slf4j
+public class SignalConfigWatcher implements SmartLifecycle {
+
+    private final SignalConfigLoader loader;
+    private final SignalPlanHolder holder;
+    private final Duration debounce;
+    private final Path file;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread thread;
+    private FileTime lastModified;
+    private long lastSize;
+
+    /**
+     * Creates a new watcher.
+     *
+     * @param loader   The loader used to read and compile the configuration.
+     * @param holder   The holder to which reloaded plans are published.
+     * @param debounce The time to wait after a change before reading the file, so that writes can complete.
+     */
+    public SignalConfigWatcher(SignalConfigLoader loader, SignalPlanHolder holder, Duration debounce) {
+        this.loader = loader;
+        this.holder = holder;
+        this.debounce = debounce;
+        this.file = resolveFile(loader.getResource());
+    }
+
+    @Override
+    public void start() {
+        if (file == null) {
+            log.warn("Signal configuration {} is not a file and cannot be watched.", loader.getResource());
+            return;
+        }
+        try {
+            watchService = file.getFileSystem().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to watch signal configuration " + file, e);
+        }
+        running = true;
+        thread = new Thread(this::watch, "signal-config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching signal configuration {} for changes.", file);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("Error while closing the signal configuration watcher, {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Reloads the configuration if the file has changed since it was last loaded.
+     *
+     * @return True if a new plan was published, otherwise false.
+     */
+    boolean reloadIfChanged() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(file);
+            long size = Files.size(file);
+            if (modified.equals(lastModified) && size == lastSize) {
+                return false;
+            }
+            lastModified = modified;
+            lastSize = size;
+            SignalPlan plan = loader.load();
+            holder.publish(plan);
+            log.info("Reloaded signal configuration {} with {} signals.", file, plan.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error(" Rejected signal configuration {}, keeping the current one, {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Waits for file system events in the directory of the configuration and reloads it after every burst of
+     * changes.
+     */
+    private void watch() {
+        try {
+            while (running) {
+                WatchKey key = watchService.take();
+                Thread.sleep(debounce.toMillis());
+                key.pollEvents();
+                key.reset();
+                reloadIfChanged();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Resolves the file behind the configuration resource and remembers its current state as the loaded version.
+     *
+     * @param resource The configuration resource.
+     * @return The absolute path of the file, or null if the resource is not a file.
+     */
+    private Path resolveFile(Resource resource) {
+        if (!resource.isFile()) {
+            return null;
+        }
+        try {
+            Path path = resource.getFile().toPath().toAbsolutePath();
+            lastModified = Files.getLastModifiedTime(path);
+            lastSize = Files.size(path);
+            return path;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to watch signal configuration " + resource, e);
+        }
+    }
+}
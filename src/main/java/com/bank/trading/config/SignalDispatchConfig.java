@@ -0,0 +1,210 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.pipeline.SequencedSignalPipeline;
+import com.bank.trading.pipeline.ShardedSignalHandler;
+import com.bank.trading.pipeline.SignalAdmissionController;
+import com.bank.trading.pipeline.SignalConflator;
+import com.bank.trading.service.AlgoStateShadow;
+import com.bank.trading.service.SignalExecutionListener;
+import com.bank.trading.service.SignalProcessor;
+import com.bank.trading.service.SignalRequestExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SignalDispatchConfig is a configuration class responsible for the optional stages that are placed in front of the
+ * SignalProcessor. Enabled stages are chained in the order admission control, conflation, pipeline, SignalProcessor,
+ * and the outermost one is exposed as the primary SignalHandler, so that the controllers and ingresses submit signals
+ * through it. The sharded execution mode replaces the conflation, the pipeline and the SignalProcessor and cannot be
+ * combined with them; the admission control can be placed in front of it.
+ */
+@Configuration
+public class SignalDispatchConfig {
+
+    /**
+     * Creates the single-writer pipeline when "trading.pipeline.enabled" is set.
+     *
+     * @param signalProcessor The SignalProcessor that is called from the pipeline thread.
+     * @param properties      The trading properties, which hold the pipeline settings.
+     * @return SequencedSignalPipeline - The pipeline.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.pipeline", name = "enabled", havingValue = "true")
+    public SequencedSignalPipeline sequencedSignalPipeline(SignalProcessor signalProcessor, TradingProperties properties) {
+        TradingProperties.Pipeline pipeline = properties.getPipeline();
+        return new SequencedSignalPipeline(signalProcessor, pipeline.getCapacity(),
+                pipeline.getMode() == TradingProperties.PipelineMode.SYNC);
+    }
+
+    /**
+     * Creates the conflation stage when "trading.conflation.enabled" is set.
+     *
+     * @param signalProcessor The SignalProcessor, used if the pipeline is disabled.
+     * @param pipeline        The pipeline, if it is enabled.
+     * @param properties      The trading properties, which hold the conflation windows.
+     * @return SignalConflator - The conflation stage.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.conflation", name = "enabled", havingValue = "true")
+    public SignalConflator signalConflator(SignalProcessor signalProcessor,
+                                           ObjectProvider<SequencedSignalPipeline> pipeline,
+                                           TradingProperties properties) {
+        TradingProperties.Conflation conflation = properties.getConflation();
+        return new SignalConflator(firstOf(pipeline.getIfAvailable(), signalProcessor), conflation.getWindow(),
+                conflation.getWindows());
+    }
+
+    /**
+     * Creates the sharded execution mode when "trading.sharding.enabled" is set. Shard 0 is the SignalProcessor bean
+     * with the Algo bean; every further shard gets a new instance of the class of the Algo bean and its own
+     * SignalProcessor sharing the plan, the invoker and the listeners, and a shadow of the parameters of its Algo if
+     * that is enabled.
+     *
+     * @param signalProcessor   The SignalProcessor of shard 0.
+     * @param algo              The Algo bean of shard 0, whose class is instantiated for the other shards.
+     * @param signalPlanHolder  The holder of the active plan.
+     * @param algoMethodInvoker The invoker shared by all shards.
+     * @param listeners         The listeners notified by all shards.
+     * @param algoStateShadow   Provides a new shadow of the parameters of an Algo, if it is enabled.
+     * @param properties        The trading properties, which hold the number of shards.
+     * @return ShardedSignalHandler - The sharded handler.
+     * @throws IllegalStateException If the pipeline or the conflation stage is enabled as well, or the class of the
+     *                               Algo bean cannot be instantiated.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.sharding", name = "enabled", havingValue = "true")
+    public ShardedSignalHandler shardedSignalHandler(SignalProcessor signalProcessor, Algo algo,
+                                                     SignalPlanHolder signalPlanHolder,
+                                                     AlgoMethodInvoker algoMethodInvoker,
+                                                     ObjectProvider<SignalExecutionListener> listeners,
+                                                     ObjectProvider<AlgoStateShadow> algoStateShadow,
+                                                     TradingProperties properties) {
+        if (properties.getPipeline().isEnabled() || properties.getConflation().isEnabled()) {
+            throw new IllegalStateException(
+                    "trading.sharding cannot be combined with trading.pipeline or trading.conflation.");
+        }
+        TradingProperties.Sharding sharding = properties.getSharding();
+        SignalExecutionListener[] shardListeners = listeners.orderedStream().toArray(SignalExecutionListener[]::new);
+        List<SignalProcessor> shards = new ArrayList<>();
+        shards.add(signalProcessor);
+        for (int i = 1; i < sharding.getShards(); i++) {
+            shards.add(new SignalProcessor(newAlgo(algo.getClass()), signalPlanHolder, algoMethodInvoker,
+                    algoStateShadow.getIfAvailable(), shardListeners));
+        }
+        return new ShardedSignalHandler(signalPlanHolder, shards, sharding.getCapacity());
+    }
+
+    /**
+     * Creates the Algo of a further shard.
+     *
+     * @param algoClass The class of the Algo bean, which must have a constructor without parameters.
+     * @return Algo - A new instance of the class.
+     * @throws IllegalStateException If the class cannot be instantiated.
+     */
+    private static Algo newAlgo(Class<? extends Algo> algoClass) {
+        try {
+            return algoClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create an Algo of " + algoClass.getName() + " for a shard.", e);
+        }
+    }
+
+    /**
+     * Creates the admission control when "trading.admission.enabled" is set. It is placed in front of the other
+     * enabled stages.
+     *
+     * @param signalProcessor  The SignalProcessor, used if no other stage is enabled.
+     * @param pipeline         The pipeline, if it is enabled.
+     * @param conflator        The conflation stage, if it is enabled.
+     * @param sharded          The sharded execution mode, if it is enabled.
+     * @param signalPlanHolder The holder of the active plan, which holds the priorities of the signals.
+     * @param properties       The trading properties, which hold the admission limits.
+     * @return SignalAdmissionController - The admission control.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.admission", name = "enabled", havingValue = "true")
+    public SignalAdmissionController signalAdmissionController(SignalProcessor signalProcessor,
+                                                               ObjectProvider<SequencedSignalPipeline> pipeline,
+                                                               ObjectProvider<SignalConflator> conflator,
+                                                               ObjectProvider<ShardedSignalHandler> sharded,
+                                                               SignalPlanHolder signalPlanHolder,
+                                                               TradingProperties properties) {
+        TradingProperties.Admission admission = properties.getAdmission();
+        return new SignalAdmissionController(chain(signalProcessor, pipeline, conflator, sharded), signalPlanHolder,
+                admission.getMaxConcurrency(), admission.getQueueCapacity(), admission.getMaxWait(),
+                admission.getRate(), admission.getBurst());
+    }
+
+    /**
+     * Exposes the outermost enabled stage as the primary SignalHandler. The stage is wrapped, so that it is not
+     * registered, started and stopped a second time under this bean name.
+     *
+     * @param signalProcessor The SignalProcessor, used if no stage is enabled.
+     * @param pipeline        The pipeline, if it is enabled.
+     * @param conflator       The conflation stage, if it is enabled.
+     * @param sharded         The sharded execution mode, if it is enabled.
+     * @param admission       The admission control, if it is enabled.
+     * @return SignalHandler - The handler the controllers and ingresses submit signals to.
+     */
+    @Bean
+    @Primary
+    public SignalHandler signalHandler(SignalProcessor signalProcessor,
+                                       ObjectProvider<SequencedSignalPipeline> pipeline,
+                                       ObjectProvider<SignalConflator> conflator,
+                                       ObjectProvider<ShardedSignalHandler> sharded,
+                                       ObjectProvider<SignalAdmissionController> admission) {
+        SignalHandler first = firstOf(admission.getIfAvailable(), chain(signalProcessor, pipeline, conflator, sharded));
+        return first::handleSignal;
+    }
+
+    /**
+     * Returns the outermost enabled stage behind the admission control.
+     *
+     * @param signalProcessor The SignalProcessor, used if no stage is enabled.
+     * @param pipeline        The pipeline, if it is enabled.
+     * @param conflator       The conflation stage, if it is enabled.
+     * @param sharded         The sharded execution mode, if it is enabled.
+     * @return SignalHandler - The first enabled SignalHandler.
+     */
+    private static SignalHandler chain(SignalProcessor signalProcessor,
+                                       ObjectProvider<SequencedSignalPipeline> pipeline,
+                                       ObjectProvider<SignalConflator> conflator,
+                                       ObjectProvider<ShardedSignalHandler> sharded) {
+        return firstOf(sharded.getIfAvailable(),
+                firstOf(conflator.getIfAvailable(), firstOf(pipeline.getIfAvailable(), signalProcessor)));
+    }
+
+    /**
+     * Returns the given stage if it is enabled, or the next one in the chain otherwise.
+     *
+     * @param stage The stage, or null if it is disabled.
+     * @param next  The next SignalHandler in the chain.
+     * @return SignalHandler - The first enabled SignalHandler.
+     */
+    private static SignalHandler firstOf(SignalHandler stage, SignalHandler next) {
+        return stage != null ? stage : next;
+    }
+
+    /**
+     * Creates the bounded executor for the asynchronous request execution mode when "trading.async.enabled" is set.
+     *
+     * @param signalHandler The primary SignalHandler.
+     * @param properties    The trading properties, which hold the concurrency limit and the queue capacity.
+     * @return SignalRequestExecutor - The request executor.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.async", name = "enabled", havingValue = "true")
+    public SignalRequestExecutor signalRequestExecutor(SignalHandler signalHandler, TradingProperties properties) {
+        TradingProperties.Async async = properties.getAsync();
+        return new SignalRequestExecutor(signalHandler, async.getMaxConcurrency(), async.getQueueCapacity());
+    }
+}
@@ -0,0 +1,368 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.client.SignalExecutor;
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * SignalPlan is the compiled form of the signal configuration. It maps every configured signal ID to a
+ * {@link CompiledSignal} holding an immutable list of pre-parsed {@link SignalAction}s, so that handling a signal is a
+ * constant time lookup instead of a scan of the configuration.
+ * <p>
+ * IDs that fall into a reasonably small range are stored in a dense array indexed by {@code id - minId}; otherwise an
+ * open addressing table keyed by the primitive ID is used.
+ * <p>
+ * Every action is resolved against Algo when it is compiled, see {@link SignalAction.Status}. Unresolvable actions are
+ * logged once here instead of on every signal. Actions, their values and identical action lists are shared between
+ * signals, see {@link Builder}; configurations are streamed into a plan by {@link SignalConfigParser}.
+ */
+@Slf4j
+public final class SignalPlan {
+
+    /**
+     * Dense tables are used as long as they are at most this many times larger than the number of signals.
+     */
+    private static final int MAX_DENSE_FILL_FACTOR = 4;
+
+    /**
+     * Dense tables are always used for ID ranges up to this size.
+     */
+    private static final int MIN_DENSE_SPAN = 64;
+
+    private final int size;
+    private final int minId;
+    private final CompiledSignal[] dense;
+    private final int[] keys;
+    private final CompiledSignal[] values;
+    private final boolean[] used;
+    private final int mask;
+
+    /**
+     * Creates a plan from the given signals.
+     *
+     * @param signals The compiled signals, with distinct IDs and ordinals from 0 to {@code signals.size() - 1}.
+     */
+    SignalPlan(List<CompiledSignal> signals) {
+        this.size = signals.size();
+        int min = signals.stream().mapToInt(CompiledSignal::getId).min().orElse(0);
+        int max = signals.stream().mapToInt(CompiledSignal::getId).max().orElse(-1);
+        long span = (long) max - min + 1;
+
+        if (span <= Math.max(MIN_DENSE_SPAN, (long) size * MAX_DENSE_FILL_FACTOR)) {
+            this.minId = min;
+            this.dense = new CompiledSignal[(int) Math.max(span, 0)];
+            signals.forEach(signal -> dense[signal.getId() - min] = signal);
+            this.keys = null;
+            this.values = null;
+            this.used = null;
+            this.mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+            this.minId = 0;
+            this.dense = null;
+            this.keys = new int[capacity];
+            this.values = new CompiledSignal[capacity];
+            this.used = new boolean[capacity];
+            this.mask = capacity - 1;
+            signals.forEach(this::put);
+        }
+    }
+
+    /**
+     * Looks up the compiled signal for the given signal ID.
+     *
+     * @param signalId The ID of the trading signal.
+     * @return The compiled signal, or null if the signal is not configured.
+     */
+    public CompiledSignal lookup(int signalId) {
+        if (dense != null) {
+            int index = signalId - minId;
+            return index >= 0 && index < dense.length ? dense[index] : null;
+        }
+        for (int slot = mix(signalId) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == signalId) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of configured signals.
+     *
+     * @return The number of distinct signal IDs in the plan.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Passes every signal of the plan to the given consumer, in no particular order.
+     *
+     * @param consumer The consumer of the compiled signals.
+     */
+    public void forEach(Consumer<CompiledSignal> consumer) {
+        for (CompiledSignal signal : dense != null ? dense : values) {
+            if (signal != null) {
+                consumer.accept(signal);
+            }
+        }
+    }
+
+    /**
+     * Inserts a signal into the open addressing table.
+     *
+     * @param signal The compiled signal.
+     */
+    private void put(CompiledSignal signal) {
+        int slot = mix(signal.getId()) & mask;
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = signal.getId();
+        values[slot] = signal;
+    }
+
+    /**
+     * Spreads the bits of a signal ID so that sequential IDs do not cluster in the open addressing table.
+     *
+     * @param signalId The ID of the signal.
+     * @return The mixed hash.
+     */
+    private static int mix(int signalId) {
+        int h = signalId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Builder collects the signals of a configuration from {@link SignalConfigParser} and compiles them into a plan.
+     * <p>
+     * Everything is interned while the signals are added: method names and argument values, actions with the same
+     * method and arguments, and signals with the same sequence of actions, which also share a generated executor.
+     * The memory of a plan therefore grows with the number of signals and of distinct actions, and large generated
+     * configurations that repeat their actions cost little more than the lookup table. Every distinct action is
+     * resolved against Algo once, see {@link SignalAction.Status}.
+     */
+    static final class Builder {
+
+        private final SignalExecutorCompiler executorCompiler;
+        private final SignalActionOptimizer optimizer;
+        private final Map<Integer, PendingSignal> signals = new LinkedHashMap<>();
+        private final Map<Object, Object> values = new HashMap<>();
+        private final Map<ActionKey, SignalAction> actions = new HashMap<>();
+        private final Map<List<SignalAction>, List<SignalAction>> actionLists = new HashMap<>();
+        private final Map<List<SignalAction>, SignalExecutor> executors = new HashMap<>();
+
+        /**
+         * Creates a new builder.
+         *
+         * @param executorCompiler The compiler used to generate an executor per distinct sequence of actions, or
+         *                         null to execute all signals through reflection.
+         * @param optimizer        The optimizer applied to the actions of every signal, or null.
+         */
+        Builder(SignalExecutorCompiler executorCompiler, SignalActionOptimizer optimizer) {
+            this.executorCompiler = executorCompiler;
+            this.optimizer = optimizer;
+        }
+
+        /**
+         * Returns the interned action for a method and its arguments.
+         *
+         * @param signalId  The ID of the signal the action belongs to, used for errors and logging.
+         * @param method    The name of the Algo method, or null if the action does not declare one.
+         * @param arguments The converted arguments, or null if the action was configured without "params". The
+         *                  array is not modified.
+         * @return The action.
+         * @throws IllegalArgumentException If the action does not declare a method.
+         */
+        SignalAction action(int signalId, String method, Object[] arguments) {
+            if (method == null) {
+                throw new IllegalArgumentException("Signal " + signalId + " has an action without a method.");
+            }
+            ActionKey key = new ActionKey(method, arguments == null ? null : Arrays.asList(arguments));
+            SignalAction action = actions.get(key);
+            if (action == null) {
+                action = resolve(signalId, intern(method), internArguments(arguments));
+                actions.put(key, action);
+            }
+            return action;
+        }
+
+        /**
+         * Adds actions to a signal. If the same ID is added more than once, the actions are appended.
+         *
+         * @param signalId The ID of the signal.
+         * @param shardKey The shard key of the signal, or null.
+         * @param priority The name of the priority of the signal, case-insensitive, or null.
+         * @param actions  The actions, in execution order.
+         * @throws IllegalArgumentException If the signal was added before with a different shard key or priority, or
+         *                                  the priority is unknown.
+         */
+        void add(int signalId, String shardKey, String priority, List<SignalAction> actions) {
+            PendingSignal signal = signals.computeIfAbsent(signalId, key -> new PendingSignal());
+            if (shardKey != null) {
+                if (signal.shardKey != null && !signal.shardKey.equals(shardKey)) {
+                    throw new IllegalArgumentException("Signal " + signalId + " has different shard keys.");
+                }
+                signal.shardKey = intern(shardKey);
+            }
+            if (priority != null) {
+                CompiledSignal.Priority parsed = parsePriority(signalId, priority);
+                if (signal.priority != null && signal.priority != parsed) {
+                    throw new IllegalArgumentException("Signal " + signalId + " has different priorities.");
+                }
+                signal.priority = parsed;
+            }
+            if (signal.actions.isEmpty()) {
+                signal.actions = actions;
+            } else {
+                List<SignalAction> appended = new ArrayList<>(signal.actions);
+                appended.addAll(actions);
+                signal.actions = appended;
+            }
+        }
+
+        /**
+         * Compiles the added signals into a plan, in the order in which they were first added. Redundant parameter
+         * writes are removed first if the builder has an optimizer.
+         *
+         * @return The plan.
+         */
+        SignalPlan build() {
+            List<CompiledSignal> compiled = new ArrayList<>(signals.size());
+            int[] removed = new int[1];
+            signals.forEach((id, signal) -> {
+                List<SignalAction> optimized = optimizer != null ? optimizer.optimize(signal.actions) : signal.actions;
+                removed[0] += signal.actions.size() - optimized.size();
+                List<SignalAction> signalActions = actionLists.computeIfAbsent(List.copyOf(optimized), list -> list);
+                SignalExecutor executor = null;
+                if (executorCompiler != null) {
+                    if (executors.containsKey(signalActions)) {
+                        executor = executors.get(signalActions);
+                    } else {
+                        executor = executorCompiler.compile(id, signalActions);
+                        executors.put(signalActions, executor);
+                    }
+                }
+                compiled.add(new CompiledSignal(id, compiled.size(), signalActions, executor, signal.shardKey,
+                        signal.priority != null ? signal.priority : CompiledSignal.Priority.NORMAL));
+            });
+            if (removed[0] > 0) {
+                log.info("Removed {} redundant {} actions from the signal plan.", removed[0],
+                        SignalActionOptimizer.SET_ALGO_PARAM);
+            }
+            return new SignalPlan(compiled);
+        }
+
+        /**
+         * Creates an action and resolves it against Algo. If Algo has no such method, the exception the signal fails
+         * with is created here, once, with the same message the reflective call would produce.
+         *
+         * @param signalId  The ID of the first signal with this action.
+         * @param method    The name of the Algo method.
+         * @param arguments The arguments, or null.
+         * @return The action.
+         */
+        private static SignalAction resolve(int signalId, String method, Object[] arguments) {
+            if (arguments != null) {
+                Method resolved = AlgoMethodInvoker.getMethodWithArgs(Algo.class, method, arguments);
+                if (resolved == null) {
+                    log.warn("Signal {} skips action {}, no overload matches the arguments.", signalId, method);
+                    return new SignalAction(method, arguments, SignalAction.Status.NO_MATCHING_OVERLOAD, null);
+                }
+                return new SignalAction(method, arguments, resolved);
+            }
+            try {
+                return new SignalAction(method, null, Algo.class.getMethod(method));
+            } catch (NoSuchMethodException e) {
+                log.warn("Signal {} fails at action {}, Algo has no such method.", signalId, method);
+                return new SignalAction(method, null, SignalAction.Status.NO_SUCH_METHOD,
+                        new ResourceNotFoundException("Resource or Method Not found." + e.getMessage(), null));
+            }
+        }
+
+        /**
+         * Parses the priority of a signal.
+         *
+         * @param signalId The ID of the signal.
+         * @param priority The name of the priority, case-insensitive.
+         * @return The priority.
+         * @throws IllegalArgumentException If the priority is unknown.
+         */
+        private static CompiledSignal.Priority parsePriority(int signalId, String priority) {
+            for (CompiledSignal.Priority value : CompiledSignal.Priority.values()) {
+                if (value.name().equalsIgnoreCase(priority)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Signal " + signalId + " has an unknown priority \"" + priority + "\".");
+        }
+
+        /**
+         * Returns a copy of the arguments whose values are interned.
+         *
+         * @param arguments The arguments, or null.
+         * @return The interned arguments, or null.
+         */
+        private Object[] internArguments(Object[] arguments) {
+            if (arguments == null) {
+                return null;
+            }
+            Object[] interned = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                interned[i] = intern(arguments[i]);
+            }
+            return interned;
+        }
+
+        /**
+         * Returns the canonical instance of a string or boxed value.
+         *
+         * @param value The value.
+         * @param <T>   The type of the value.
+         * @return The first equal value that was interned.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> T intern(T value) {
+            Object canonical = values.putIfAbsent(value, value);
+            return canonical != null ? (T) canonical : value;
+        }
+
+        /**
+         * The actions and the shard key of a signal that has not been compiled yet.
+         */
+        private static final class PendingSignal {
+
+            private List<SignalAction> actions = List.of();
+            private String shardKey;
+            private CompiledSignal.Priority priority;
+        }
+
+        /**
+         * The key of an interned action.
+         *
+         * @param method    The name of the Algo method.
+         * @param arguments The arguments, or null if the action was configured without "params".
+         */
+        private record ActionKey(String method, List<Object> arguments) {
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SignalPlan{size=" + size + ", dense=" + (dense != null) + "}";
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.trading.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * SignalPlanHolder publishes the active SignalPlan. Readers take a snapshot with {@link #current()} once per signal,
+ * so a signal that is already being handled keeps running against the plan it started with while a reloaded plan is
+ * swapped in. Reads never block or take a lock.
+ */
+public class SignalPlanHolder {
+
+    private final List<Consumer<SignalPlan>> publishListeners = new CopyOnWriteArrayList<>();
+    private volatile SignalPlan plan;
+
+    /**
+     * Creates a holder publishing the given plan.
+     *
+     * @param plan The initial plan.
+     */
+    public SignalPlanHolder(SignalPlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * Returns the active plan.
+     *
+     * @return The plan to be used for the next signal.
+     */
+    public SignalPlan current() {
+        return plan;
+    }
+
+    /**
+     * Atomically replaces the active plan. Signals received after this call use the new plan.
+     *
+     * @param newPlan The fully compiled and validated plan.
+     */
+    public void publish(SignalPlan newPlan) {
+        this.plan = newPlan;
+        publishListeners.forEach(listener -> listener.accept(newPlan));
+    }
+
+    /**
+     * Registers a listener that is called with every newly published plan, on the thread that publishes it.
+     *
+     * @param listener The listener to be called after a plan has been published.
+     */
+    public void addPublishListener(Consumer<SignalPlan> listener) {
+        publishListeners.add(listener);
+    }
+}
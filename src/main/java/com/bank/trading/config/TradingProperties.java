@@ -0,0 +1,492 @@
+package com.bank.trading.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TradingProperties holds the application specific settings under the "trading" prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "trading")
+public class TradingProperties {
+
+    /**
+     * Settings controlling how signal actions are executed.
+     */
+    private Execution execution = new Execution();
+
+    /**
+     * Settings of the tracking of the parameters set on the Algo.
+     */
+    private AlgoState algoState = new AlgoState();
+
+    /**
+     * Settings for loading the signal configuration.
+     */
+    private Config config = new Config();
+
+    /**
+     * Settings of the single-writer signal pipeline.
+     */
+    private Pipeline pipeline = new Pipeline();
+
+    /**
+     * Settings of the conflation of duplicate signals.
+     */
+    private Conflation conflation = new Conflation();
+
+    /**
+     * Settings of the sharded execution mode.
+     */
+    private Sharding sharding = new Sharding();
+
+    /**
+     * Settings of the asynchronous request execution mode.
+     */
+    private Async async = new Async();
+
+    /**
+     * Settings of the admission control in front of the SignalHandler.
+     */
+    private Admission admission = new Admission();
+
+    /**
+     * Settings of the binary TCP ingress.
+     */
+    private Tcp tcp = new Tcp();
+
+    /**
+     * Settings of the shared-memory ingress.
+     */
+    private Ipc ipc = new Ipc();
+
+    /**
+     * Settings of the signal and action latency metrics.
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * Settings of the journal of handled signals and executed actions.
+     */
+    private Journal journal = new Journal();
+
+    /**
+     * Settings of the response of {@code POST /signal/{signalId}}.
+     */
+    private Response response = new Response();
+
+    /**
+     * Settings of the warm-up of the signal path at startup.
+     */
+    private Warmup warmup = new Warmup();
+
+    /**
+     * Settings of the asynchronous console.
+     */
+    private Console console = new Console();
+
+    /**
+     * Settings of the continuous flight recording.
+     */
+    private Jfr jfr = new Jfr();
+
+    @Data
+    public static class Execution {
+
+        /**
+         * The strategy used to call the Algo methods of a signal.
+         */
+        private ExecutionMode mode = ExecutionMode.REFLECTIVE;
+    }
+
+    @Data
+    public static class AlgoState {
+
+        /**
+         * Whether every SignalProcessor keeps a shadow of the parameters set on its Algo and skips setAlgoParam calls
+         * that would not change them. Requires the reflective execution mode.
+         */
+        private boolean shadow = false;
+
+        /**
+         * Whether redundant setAlgoParam actions are removed from the signals when the configuration is loaded.
+         */
+        private boolean optimize = false;
+
+        /**
+         * The Algo methods that reset the parameters. Only these and setAlgoParam are assumed to change them.
+         */
+        private List<String> resetMethods = List.of("setUp", "cancelTrades");
+    }
+
+    @Data
+    public static class Config {
+
+        /**
+         * The location of the signal configuration, e.g. "file:/etc/trading/signal-config.json".
+         */
+        private String location = "classpath:signal-config.json";
+
+        /**
+         * Whether to watch the configuration file and hot reload it when it changes. Requires a file location.
+         */
+        private boolean watch = false;
+
+        /**
+         * The time to wait after a change before reading the file, so that writes can complete.
+         */
+        private Duration watchDebounce = Duration.ofMillis(200);
+    }
+
+    @Data
+    public static class Pipeline {
+
+        /**
+         * Whether signals are funnelled through a ring buffer to a single thread that owns the Algo.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Whether callers wait for their signal to be processed (SYNC) or only for it to be enqueued (ASYNC).
+         */
+        private PipelineMode mode = PipelineMode.SYNC;
+
+        /**
+         * The number of slots of the ring buffer, rounded up to a power of two.
+         */
+        private int capacity = 1024;
+    }
+
+    @Data
+    public static class Conflation {
+
+        /**
+         * Whether duplicates of a signal that is still pending are collapsed into one execution.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long a signal waits for duplicates before it is executed. With the default of 0, only duplicates that
+         * arrive while earlier signals are being processed are collapsed.
+         */
+        private Duration window = Duration.ZERO;
+
+        /**
+         * Windows of individual signal IDs, overriding the default window.
+         */
+        private Map<Integer, Duration> windows = new HashMap<>();
+    }
+
+    @Data
+    public static class Sharding {
+
+        /**
+         * Whether signals are executed on a pool of Algo instances, each owned by its own thread.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The number of Algo instances and threads.
+         */
+        private int shards = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The number of slots of the ring buffer of each shard, rounded up to a power of two.
+         */
+        private int capacity = 1024;
+    }
+
+    @Data
+    public static class Async {
+
+        /**
+         * Whether "/signal/{signalId}" releases the servlet container thread and processes the signal on a bounded
+         * pool of worker threads.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of signals processed at the same time.
+         */
+        private int maxConcurrency = 16;
+
+        /**
+         * The maximum number of signals waiting for a worker before further signals are rejected.
+         */
+        private int queueCapacity = 1000;
+    }
+
+    @Data
+    public static class Admission {
+
+        /**
+         * Whether normal signals are limited and shed with 429 when the limits are reached. Critical and unknown
+         * signals always bypass the limits.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of normal signals processed at the same time.
+         */
+        private int maxConcurrency = 64;
+
+        /**
+         * The maximum number of normal signals waiting for admission before further signals are shed.
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * The maximum time a normal signal waits for admission before it is shed.
+         */
+        private Duration maxWait = Duration.ofMillis(50);
+
+        /**
+         * The maximum number of normal signals accepted per second, 0 for no rate limit.
+         */
+        private double rate = 0;
+
+        /**
+         * The number of normal signals that may be accepted at once above the rate.
+         */
+        private int burst = 100;
+    }
+
+    @Data
+    public static class Tcp {
+
+        /**
+         * Whether to accept signals over the binary TCP protocol in addition to the REST API.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The address to bind to.
+         */
+        private String bindAddress = "0.0.0.0";
+
+        /**
+         * The port to listen on, 0 selects a free port.
+         */
+        private int port = 9090;
+
+        /**
+         * The size in bytes of the read and of the write buffer of each connection.
+         */
+        private int bufferSize = 64 * 1024;
+    }
+
+    @Data
+    public static class Ipc {
+
+        /**
+         * Whether to accept signals through a memory-mapped ring file in addition to the REST API.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The ring file, best placed on a memory file system such as /dev/shm.
+         */
+        private String file = "ipc/signals.ring";
+
+        /**
+         * The number of slots of the ring, rounded up to a power of two.
+         */
+        private int capacity = 1024;
+
+        /**
+         * Whether the consumer thread spins instead of parking while there are no signals, occupying a core.
+         */
+        private boolean busySpin = false;
+    }
+
+    @Data
+    public static class Metrics {
+
+        /**
+         * Whether to record latency histograms and failure counters for signals and actions.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The maximum number of signals that get a timer of their own. The latencies of further signals are recorded
+         * under the tag signal="other", which bounds the number of time series for very large configurations.
+         */
+        private int maxSignalTimers = 1000;
+    }
+
+    @Data
+    public static class Journal {
+
+        /**
+         * Whether to write every handled signal and executed action to the journal.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The directory of the journal segment files.
+         */
+        private String directory = "journal";
+
+        /**
+         * The size of a segment file. A new segment is started when the current one is full.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * The number of records buffered between the request threads and the journal writer thread.
+         */
+        private int capacity = 64 * 1024;
+
+        /**
+         * When written records are forced to the storage device.
+         */
+        private FsyncPolicy fsync = FsyncPolicy.INTERVAL;
+
+        /**
+         * The maximum time between two forces with the INTERVAL policy.
+         */
+        private Duration fsyncInterval = Duration.ofSeconds(1);
+
+        /**
+         * What a request thread does when the buffer is full.
+         */
+        private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+    }
+
+    @Data
+    public static class Response {
+
+        /**
+         * How a processed signal is answered.
+         */
+        private ResponseMode mode = ResponseMode.JSON;
+    }
+
+    @Data
+    public static class Warmup {
+
+        /**
+         * Whether every configured signal is handled on a shadow Algo before the application accepts signals.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How many times every configured signal is handled.
+         */
+        private int iterations = 10_000;
+
+        /**
+         * The time after which the warm-up stops, even if not all iterations are done.
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Console {
+
+        /**
+         * Whether System.out and the console logging are written by a background thread instead of the printing
+         * threads.
+         */
+        private boolean async = false;
+
+        /**
+         * The number of lines buffered between the printing threads and the console writer thread.
+         */
+        private int capacity = 64 * 1024;
+
+        /**
+         * What a printing thread does when the buffer is full.
+         */
+        private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+    }
+
+    @Data
+    public static class Jfr {
+
+        /**
+         * Whether the application runs a continuous JFR recording with the default settings and the trading events.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The location of the settings of the trading events.
+         */
+        private String settings = "classpath:trading.jfc";
+
+        /**
+         * The file the recording is written to when the application stops.
+         */
+        private String destination = "trading.jfr";
+
+        /**
+         * The maximum age of the recorded data kept on disk.
+         */
+        private Duration maxAge = Duration.ofHours(6);
+
+        /**
+         * The maximum size of the recorded data kept on disk.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+    }
+
+    public enum ResponseMode {
+        /**
+         * A SignalResponse with a message, as JSON.
+         */
+        JSON,
+        /**
+         * An empty 204 response.
+         */
+        NO_CONTENT
+    }
+
+    public enum FsyncPolicy {
+        /**
+         * Records are written back whenever the operating system decides to.
+         */
+        NONE,
+        /**
+         * Records are forced at most "fsync-interval" after they have been written.
+         */
+        INTERVAL,
+        /**
+         * Records are forced after every batch drained by the writer thread.
+         */
+        ALWAYS
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * The producer waits until there is space again.
+         */
+        BLOCK,
+        /**
+         * The record is dropped and counted.
+         */
+        DROP
+    }
+
+    public enum PipelineMode {
+        SYNC,
+        ASYNC
+    }
+
+    public enum ExecutionMode {
+        /**
+         * Every action is dispatched through the AlgoMethodInvoker.
+         */
+        REFLECTIVE,
+        /**
+         * Every signal whose actions can be resolved at startup is executed by a generated class that calls the Algo
+         * methods directly. The remaining signals fall back to the reflective path.
+         */
+        COMPILED
+    }
+}
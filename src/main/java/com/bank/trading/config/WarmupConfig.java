@@ -0,0 +1,34 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.warmup.SignalWarmup;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WarmupConfig is a configuration class responsible for the warm-up of the signal path at startup, which is enabled
+ * unless "trading.warmup.enabled" is set to false.
+ */
+@Configuration
+public class WarmupConfig {
+
+    /**
+     * Creates the warm-up. Only the class of the Algo bean is passed on, the bean itself is never called.
+     *
+     * @param signalPlanHolder  The holder of the active plan.
+     * @param algoMethodInvoker The invoker used by the SignalProcessor.
+     * @param algo              The real Algo.
+     * @param properties        The trading properties, which hold the warm-up settings.
+     * @return SignalWarmup - The warm-up, run before the web server and the ingresses start.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "trading.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SignalWarmup signalWarmup(SignalPlanHolder signalPlanHolder, AlgoMethodInvoker algoMethodInvoker, Algo algo,
+                                     TradingProperties properties) {
+        TradingProperties.Warmup warmup = properties.getWarmup();
+        return new SignalWarmup(signalPlanHolder, algoMethodInvoker, algo.getClass(), warmup.getIterations(),
+                warmup.getTimeout());
+    }
+}
@@ -0,0 +1,377 @@
+package com.bank.trading.console;
+
+import com.bank.trading.config.TradingProperties.OverflowPolicy;
+import com.bank.trading.journal.SignalJournal;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AsyncConsole takes console output off the request threads. While it is running, {@code System.out} is replaced by
+ * an {@link AsyncConsoleStream} and the console appender of the root logger by an {@link AsyncConsoleAppender}, which
+ * hands its events to it as well, so neither the println calls of the third-party Algo nor the application logging
+ * contend for the console.
+ * <p>
+ * Producers claim a slot of a pre-allocated ring buffer with a compare-and-set and store a reference to the printed
+ * String or to the encoded bytes in it; printing a String does not copy or allocate. A single writer thread drains the
+ * ring buffer into a reusable buffer, encodes ASCII text without allocating, and writes to the original
+ * {@code System.out} in large blocks, flushing whenever the ring buffer runs empty. Memory is bounded by the number of
+ * slots. When the ring buffer is full, producers either wait or drop the line, depending on the
+ * {@link OverflowPolicy}; dropped lines are counted.
+ * <p>
+ * Stopping closes the ring buffer to new lines atomically with the claims of the producers: every line claimed before
+ * is still written, and later lines are written synchronously by their producer.
+ */
+@Slf4j
+public class AsyncConsole implements SmartLifecycle, MeterBinder {
+
+    /**
+     * The console is started before and stopped after the journal and the dispatch stages, so that it captures all of
+     * their output.
+     */
+    public static final int PHASE = SignalJournal.PHASE - 1024;
+
+    public static final String DROPPED = "trading.console.dropped";
+    public static final String QUEUE_DEPTH = "trading.console.queue.depth";
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 1_000_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+
+    /**
+     * The bit set in {@link #claimed} once the console has been stopped and no further slots may be claimed.
+     */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    /**
+     * The running console, to which the AsyncConsoleAppender hands its events, or null.
+     */
+    private static volatile AsyncConsole active;
+
+    private final boolean dropWhenFull;
+    private final int mask;
+    private final Object[] entries;
+    private final boolean[] newlines;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(CLOSED);
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * The ring buffer sequence up to which (exclusive) entries have been written and slots may be reused.
+     */
+    private volatile long consumed;
+
+    private volatile boolean writerWaiting;
+    private volatile boolean running;
+    private Thread writer;
+    private AsyncConsoleAppender appender;
+    private PrintStream target;
+    private Charset charset;
+
+    // State of the writer thread
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int buffered;
+
+    /**
+     * Creates a new console.
+     *
+     * @param capacity The number of lines of the ring buffer, rounded up to a power of two.
+     * @param overflow What producers do when the ring buffer is full.
+     */
+    public AsyncConsole(int capacity, OverflowPolicy overflow) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.dropWhenFull = overflow == OverflowPolicy.DROP;
+        this.mask = size - 1;
+        this.entries = new Object[size];
+        this.newlines = new boolean[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Returns the running console.
+     *
+     * @return The console, or null if none is running.
+     */
+    static AsyncConsole active() {
+        return active;
+    }
+
+    /**
+     * Queues text for the console.
+     *
+     * @param text    The text.
+     * @param newline Whether a line separator follows the text.
+     * @return False if the console is not running and the text has to be written synchronously.
+     */
+    boolean offer(String text, boolean newline) {
+        return append(text, newline);
+    }
+
+    /**
+     * Queues bytes for the console. The array must not be modified afterwards.
+     *
+     * @param bytes The encoded output.
+     * @return False if the console is not running and the bytes have to be written synchronously.
+     */
+    boolean offer(byte[] bytes) {
+        return append(bytes, false);
+    }
+
+    /**
+     * Returns the number of lines that were dropped because the ring buffer was full.
+     *
+     * @return The number of dropped lines.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of lines waiting for the writer thread.
+     *
+     * @return The current queue depth.
+     */
+    public long getQueueDepth() {
+        return Math.max(0, (claimed.get() & ~CLOSED) - consumed);
+    }
+
+    /**
+     * Claims a slot of the ring buffer and publishes an entry into it.
+     *
+     * @param entry   The String or byte array.
+     * @param newline Whether a line separator follows the entry.
+     * @return False if the console is not running.
+     */
+    private boolean append(Object entry, boolean newline) {
+        if (!running) {
+            return false;
+        }
+        long sequence = claim();
+        if (sequence == -1) {
+            dropped.increment();
+            return true;
+        }
+        if (sequence == -2) {
+            return false;
+        }
+        int index = (int) sequence & mask;
+        entries[index] = entry;
+        newlines[index] = newline;
+        published.set(index, sequence);
+        if (writerWaiting) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    /**
+     * Claims the next slot of the ring buffer.
+     *
+     * @return The ring buffer sequence of the slot, -1 if the entry is to be dropped, or -2 if the console stopped.
+     */
+    private long claim() {
+        for (int tries = 0; ; ) {
+            long sequence = claimed.get();
+            if ((sequence & CLOSED) != 0) {
+                return -2;
+            }
+            if (sequence - consumed >= entries.length) {
+                if (dropWhenFull) {
+                    return -1;
+                }
+                backOff(tries++);
+            } else if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Drains published entries to the console until the console is closed and every claimed slot has been written.
+     */
+    private void write() {
+        long next = consumed;
+        int idle = 0;
+        while (true) {
+            int index = (int) next & mask;
+            if (published.get(index) == next) {
+                do {
+                    Object entry = entries[index];
+                    entries[index] = null;
+                    if (entry instanceof String text) {
+                        write(text);
+                    } else {
+                        write((byte[]) entry, 0, ((byte[]) entry).length);
+                    }
+                    if (newlines[index]) {
+                        write(LINE_SEPARATOR, 0, LINE_SEPARATOR.length);
+                    }
+                    next++;
+                    index = (int) next & mask;
+                } while (published.get(index) == next);
+                consumed = next;
+                idle = 0;
+            } else if (claimed.get() == (next | CLOSED)) {
+                flush();
+                return;
+            } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                if (idle == 0) {
+                    flush();
+                }
+                backOff(idle++);
+            } else {
+                writerWaiting = true;
+                if (published.get(index) != next && running) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                writerWaiting = false;
+            }
+        }
+    }
+
+    /**
+     * Encodes text into the buffer. ASCII text is copied without allocating.
+     *
+     * @param text The text.
+     */
+    private void write(String text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                byte[] encoded = text.substring(i).getBytes(charset);
+                write(encoded, 0, encoded.length);
+                return;
+            }
+            if (buffered == buffer.length) {
+                flush();
+            }
+            buffer[buffered++] = (byte) c;
+        }
+    }
+
+    /**
+     * Copies bytes into the buffer, writing the buffer to the console when it is full.
+     *
+     * @param bytes  The bytes.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     */
+    private void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (buffered == buffer.length) {
+                flush();
+            }
+            int chunk = Math.min(length, buffer.length - buffered);
+            System.arraycopy(bytes, offset, buffer, buffered, chunk);
+            buffered += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Writes the buffer to the console.
+     */
+    private void flush() {
+        if (buffered > 0) {
+            target.write(buffer, 0, buffered);
+            target.flush();
+            buffered = 0;
+        }
+    }
+
+    /**
+     * Waits with an increasing back-off: spinning, then yielding, then parking.
+     *
+     * @param tries The number of previous tries.
+     */
+    private static void backOff(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        target = System.out;
+        charset = Charset.defaultCharset();
+        running = true;
+        // Reopen the ring buffer; all slots claimed before the last stop have been written
+        claimed.set(consumed);
+        writer = new Thread(this::write, "console-writer");
+        writer.setDaemon(true);
+        writer.start();
+        System.setOut(new AsyncConsoleStream(this, target));
+        active = this;
+        appender = AsyncConsoleAppender.install();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        if (appender != null) {
+            appender.uninstall();
+            appender = null;
+        }
+        active = null;
+        if (System.out instanceof AsyncConsoleStream stream && stream.getConsole() == this) {
+            System.setOut(target);
+        }
+        running = false;
+        claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (getDroppedCount() > 0) {
+            log.warn("Console dropped {} lines because the console could not keep up.", getDroppedCount());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(DROPPED, this, AsyncConsole::getDroppedCount)
+                .description("Console lines dropped because the console writer could not keep up")
+                .register(registry);
+        Gauge.builder(QUEUE_DEPTH, this, AsyncConsole::getQueueDepth)
+                .description("Console lines waiting for the console writer")
+                .register(registry);
+    }
+}
@@ -0,0 +1,111 @@
+package com.bank.trading.console;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintStream;
+import java.util.Iterator;
+
+/**
+ * AsyncConsoleAppender takes the place of the console appender of the root logger while an {@link AsyncConsole} is
+ * running, see {@link #install()}; all other appenders of the logging configuration, e.g. the file appender of Spring
+ * Boot, are left alone. Events are encoded on the logging thread with the encoder and filters of the replaced appender
+ * and queued for the writer thread of the console, so logging does not wait for the console; if the console is not
+ * running, they are written synchronously to {@code System.out}.
+ * <p>
+ * Unlike the AsyncAppender of Logback, the appender does not keep the logging events, so their arguments are formatted
+ * at once and need not be immutable, and it shares the bounded buffer and the dropped line count with the
+ * System.out output of the Algo.
+ */
+public class AsyncConsoleAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private Encoder<ILoggingEvent> encoder;
+
+    /**
+     * The console appender of the root logger that this appender replaces.
+     */
+    private Appender<ILoggingEvent> replaced;
+
+    /**
+     * Replaces the console appender of the root logger by an AsyncConsoleAppender with the same name, encoder and
+     * filters.
+     *
+     * @return The installed appender, or null if Logback is not used or the root logger has no console appender.
+     */
+    static AsyncConsoleAppender install() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return null;
+        }
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> appenders = root.iteratorForAppenders(); appenders.hasNext(); ) {
+            if (appenders.next() instanceof ConsoleAppender<ILoggingEvent> console && console.getEncoder() != null) {
+                AsyncConsoleAppender appender = new AsyncConsoleAppender();
+                appender.setContext(context);
+                appender.setName(console.getName());
+                appender.setEncoder(console.getEncoder());
+                console.getCopyOfAttachedFiltersList().forEach(appender::addFilter);
+                appender.replaced = console;
+                appender.start();
+                // Attach before detaching, so that no event is lost in between
+                root.addAppender(appender);
+                root.detachAppender(console);
+                return appender;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts the replaced console appender back and stops this appender.
+     */
+    void uninstall() {
+        Logger root = ((LoggerContext) getContext()).getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(replaced);
+        root.detachAppender(this);
+        stop();
+    }
+
+    /**
+     * Returns the encoder of the events.
+     *
+     * @return The encoder.
+     */
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * Sets the encoder of the events, e.g. a PatternLayoutEncoder.
+     *
+     * @param encoder The encoder.
+     */
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named \"" + name + "\".");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        byte[] bytes = encoder.encode(event);
+        AsyncConsole console = AsyncConsole.active();
+        if (console == null || !console.offer(bytes)) {
+            PrintStream out = System.out;
+            out.write(bytes, 0, bytes.length);
+            out.flush();
+        }
+    }
+}
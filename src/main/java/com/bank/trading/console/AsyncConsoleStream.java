@@ -0,0 +1,180 @@
+package com.bank.trading.console;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * AsyncConsoleStream replaces {@code System.out} while an {@link AsyncConsole} is running. Printed text is queued for
+ * the console writer thread instead of being written under the lock of the PrintStream. Printing a String queues a
+ * reference to it; other values are converted to a String first, and raw bytes are copied.
+ * <p>
+ * Once the console has been stopped, everything is written synchronously to the original {@code System.out}.
+ */
+public class AsyncConsoleStream extends PrintStream {
+
+    private final AsyncConsole console;
+    private final PrintStream target;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param console The console to which the output is queued.
+     * @param target  The original System.out, used when the console is not running.
+     */
+    AsyncConsoleStream(AsyncConsole console, PrintStream target) {
+        super(target, true);
+        this.console = console;
+        this.target = target;
+    }
+
+    /**
+     * Returns the console to which the output is queued.
+     *
+     * @return The console.
+     */
+    AsyncConsole getConsole() {
+        return console;
+    }
+
+    @Override
+    public void println(String x) {
+        if (!console.offer(String.valueOf(x), true)) {
+            target.println(x);
+        }
+    }
+
+    @Override
+    public void println(Object x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println() {
+        println("");
+    }
+
+    @Override
+    public void println(boolean x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(char x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(int x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(long x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(float x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(double x) {
+        println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(char[] x) {
+        println(new String(x));
+    }
+
+    @Override
+    public void print(String s) {
+        if (!console.offer(String.valueOf(s), false)) {
+            target.print(s);
+        }
+    }
+
+    @Override
+    public void print(Object obj) {
+        print(String.valueOf(obj));
+    }
+
+    @Override
+    public void print(boolean b) {
+        print(String.valueOf(b));
+    }
+
+    @Override
+    public void print(char c) {
+        print(String.valueOf(c));
+    }
+
+    @Override
+    public void print(int i) {
+        print(String.valueOf(i));
+    }
+
+    @Override
+    public void print(long l) {
+        print(String.valueOf(l));
+    }
+
+    @Override
+    public void print(float f) {
+        print(String.valueOf(f));
+    }
+
+    @Override
+    public void print(double d) {
+        print(String.valueOf(d));
+    }
+
+    @Override
+    public void print(char[] s) {
+        print(new String(s));
+    }
+
+    @Override
+    public void write(int b) {
+        if (!console.offer(new byte[]{(byte) b})) {
+            target.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+        if (!console.offer(Arrays.copyOfRange(buf, off, off + len))) {
+            target.write(buf, off, len);
+        }
+    }
+
+    @Override
+    public void write(byte[] buf) {
+        write(buf, 0, buf.length);
+    }
+
+    @Override
+    public void writeBytes(byte[] buf) {
+        write(buf, 0, buf.length);
+    }
+
+    /**
+     * Does nothing while the console is running, since the writer thread flushes whenever it has drained the queued
+     * output; flushes the original System.out otherwise.
+     */
+    @Override
+    public void flush() {
+        if (!console.isRunning()) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Does nothing, the original System.out is not closed.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
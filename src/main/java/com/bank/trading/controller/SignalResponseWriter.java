@@ -0,0 +1,141 @@
+package com.bank.trading.controller;
+
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.TradingProperties;
+import com.bank.trading.dto.SignalResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.IntFunction;
+
+/**
+ * SignalResponseWriter writes the success response of {@code POST /signal/{signalId}}.
+ * <p>
+ * The response of a signal only depends on its ID, so the serialized SignalResponse of every configured signal is
+ * cached in an array indexed by the ordinal of the signal in the active plan. All responses of a plan are serialized
+ * when the plan is published, so the cache is never written after it has been handed to the request threads, and a
+ * response is written to the servlet output stream as is, without a SignalResponse or Jackson. Signals that are not
+ * configured are serialized per request.
+ * <p>
+ * With "trading.response.mode=no-content", a processed signal is answered with an empty 204 response instead.
+ */
+@Component
+public class SignalResponseWriter {
+
+    /**
+     * The response of the no-content mode, which never changes.
+     */
+    private static final ResponseEntity<byte[]> NO_CONTENT = ResponseEntity.noContent().build();
+
+    private final ObjectMapper objectMapper;
+    private final boolean noContent;
+    private volatile Responses responses;
+
+    /**
+     * Creates a new writer for the signals of the active plan.
+     *
+     * @param objectMapper     The ObjectMapper used to serialize the responses.
+     * @param signalPlanHolder The holder of the active plan.
+     * @param properties       The trading properties, which hold the response mode.
+     */
+    public SignalResponseWriter(ObjectMapper objectMapper, SignalPlanHolder signalPlanHolder,
+                                TradingProperties properties) {
+        this.objectMapper = objectMapper;
+        this.noContent = properties.getResponse().getMode() == TradingProperties.ResponseMode.NO_CONTENT;
+        this.responses = new Responses(signalPlanHolder.current(), this::serialize);
+        signalPlanHolder.addPublishListener(plan -> responses = new Responses(plan, this::serialize));
+    }
+
+    /**
+     * Writes the success response of a signal to the servlet response.
+     *
+     * @param signalId The ID of the processed trading signal.
+     * @param response The servlet response.
+     * @throws IOException If the response cannot be written.
+     */
+    public void write(int signalId, HttpServletResponse response) throws IOException {
+        if (noContent) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
+            return;
+        }
+        byte[] body = body(signalId);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Returns the success response of a signal as a ResponseEntity, for requests that complete asynchronously.
+     *
+     * @param signalId The ID of the processed trading signal.
+     * @return ResponseEntity - The serialized response, or an empty 204 response in the no-content mode.
+     */
+    public ResponseEntity<byte[]> entity(int signalId) {
+        if (noContent) {
+            return NO_CONTENT;
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body(signalId));
+    }
+
+    /**
+     * Returns the serialized success response of a signal.
+     *
+     * @param signalId The ID of the processed trading signal.
+     * @return The JSON bytes of the SignalResponse; must not be modified.
+     */
+    byte[] body(int signalId) {
+        Responses current = responses;
+        CompiledSignal signal = current.plan.lookup(signalId);
+        if (signal == null) {
+            return serialize(signalId);
+        }
+        return current.bodies[signal.getOrdinal()];
+    }
+
+    /**
+     * Serializes the success response of a signal.
+     *
+     * @param signalId The ID of the processed trading signal.
+     * @return The JSON bytes of the SignalResponse.
+     */
+    private byte[] serialize(int signalId) {
+        try {
+            return objectMapper.writeValueAsBytes(SignalResponse.builder()
+                    .message("Signal " + signalId + " processed.")
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The cached responses of the signals of one plan, complete and immutable once constructed.
+     */
+    private static final class Responses {
+
+        private final SignalPlan plan;
+        private final byte[][] bodies;
+
+        /**
+         * Serializes the responses of all signals of a plan.
+         *
+         * @param plan       The plan.
+         * @param serializer The serializer of the response of a signal ID.
+         */
+        Responses(SignalPlan plan, IntFunction<byte[]> serializer) {
+            this.plan = plan;
+            this.bodies = new byte[plan.size()][];
+            plan.forEach(signal -> bodies[signal.getOrdinal()] = serializer.apply(signal.getId()));
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.bank.trading.controller;
 
-import com.bank.trading.dto.SignalResponse;
+import com.bank.trading.dto.BatchSignalResponse;
 import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.pipeline.ShardedSignalHandler;
+import com.bank.trading.pipeline.SignalAdmissionController;
+import com.bank.trading.service.SignalBatchProcessor;
+import com.bank.trading.service.SignalRequestExecutor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
 /**
  * TradingController is a Spring REST controller & responsible for receiving trading signals and processing them using
  * a SignalHandler.
@@ -20,20 +31,112 @@ public class TradingController {
      */
     private final SignalHandler signalProcessor;
 
+    /**
+     * The SignalBatchProcessor used to process batches of trading signals.
+     */
+    private final SignalBatchProcessor signalBatchProcessor;
+
+    /**
+     * The executor of the asynchronous request execution mode, empty if signals are processed on the servlet
+     * container thread.
+     */
+    private final Optional<SignalRequestExecutor> signalRequestExecutor;
+
+    /**
+     * The sharded execution mode, empty if all signals are processed by a single Algo.
+     */
+    private final Optional<ShardedSignalHandler> shardedSignalHandler;
+
+    /**
+     * The admission control, empty if it is disabled. Signals with a shard key are admitted through it explicitly,
+     * all other signals pass it as part of the SignalHandler.
+     */
+    private final Optional<SignalAdmissionController> signalAdmissionController;
+
+    /**
+     * The writer of the cached success responses.
+     */
+    private final SignalResponseWriter signalResponseWriter;
+
     /**
      * Receives a trading signal with the specified ID and processes it using the SignalHandler.
+     * <p>
+     * In the asynchronous execution mode the signal is submitted to the SignalRequestExecutor and a CompletableFuture
+     * is returned, which releases the container thread until the signal has been processed. The return type is
+     * declared as Object because Spring MVC picks the return value handler from the runtime type.
+     * <p>
+     * Otherwise the cached success response is written to the servlet response by the SignalResponseWriter and null
+     * is returned; Spring MVC treats the request as handled because the servlet response is a parameter.
+     * <p>
+     * In the sharded execution mode the optional "shardKey" parameter selects the Algo that processes the signal;
+     * signals with the same key are processed in order. Without the sharded execution mode the key is ignored.
+     * <p>
+     * With the admission control enabled, a signal that is shed is answered with 429 Too Many Requests.
      *
      * @param signalId The ID of the trading signal to be processed.
-     * @return SignalResponse - A response indicating that the signal has been processed.
+     * @param shardKey The shard key of the signal, or null to use the configured one.
+     * @param response The servlet response.
+     * @return A CompletableFuture of the response in the asynchronous execution mode, otherwise null.
+     * @throws IOException If the response cannot be written.
      */
     @PostMapping("/signal/{signalId}")
-    public SignalResponse receiveSignal(@PathVariable int signalId) {
+    public Object receiveSignal(@PathVariable int signalId, @RequestParam(required = false) String shardKey,
+                                HttpServletResponse response) throws IOException {
+        if (signalRequestExecutor.isPresent()) {
+            return signalRequestExecutor.get().submit(() -> dispatch(signalId, shardKey))
+                    .thenApply(done -> signalResponseWriter.entity(signalId));
+        }
+
+        dispatch(signalId, shardKey);
+
+        signalResponseWriter.write(signalId, response);
+        return null;
+    }
+
+    /**
+     * Hands the signal to the sharded execution mode if a shard key is given, otherwise to the SignalHandler.
+     *
+     * @param signalId The ID of the trading signal to be processed.
+     * @param shardKey The shard key of the signal, or null.
+     */
+    private void dispatch(int signalId, String shardKey) {
+        if (shardKey != null && shardedSignalHandler.isPresent()) {
+            ShardedSignalHandler sharded = shardedSignalHandler.get();
+            if (signalAdmissionController.isPresent()) {
+                signalAdmissionController.get().handleSignal(signalId, id -> sharded.handleSignal(id, shardKey));
+            } else {
+                sharded.handleSignal(signalId, shardKey);
+            }
+            return;
+        }
+
         // Call the handleSignal method of the SignalHandler to process the signal
         signalProcessor.handleSignal(signalId);
+    }
 
-        // Create and return a SignalResponse with a success message
-        return SignalResponse.builder()
-                .message("Signal " + signalId + " processed.")
-                .build();
+    /**
+     * Receives a JSON array of trading signal IDs and processes them in order using the SignalHandler.
+     *
+     * @param body The request body, containing a JSON array of signal IDs.
+     * @return BatchSignalResponse - The status of every signal, in request order.
+     * @throws IOException If the request body cannot be read.
+     */
+    @PostMapping(value = "/signals", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchSignalResponse receiveSignals(InputStream body) throws IOException {
+        return signalBatchProcessor.processArray(body);
+    }
+
+    /**
+     * Receives a stream of newline delimited trading signal IDs and processes them in order using the SignalHandler.
+     * The status of every signal is streamed back as newline delimited JSON while the request is still being read.
+     *
+     * @param body     The request body, containing one signal ID per line.
+     * @param response The response to which the results are streamed.
+     * @throws IOException If the request cannot be read or the response cannot be written.
+     */
+    @PostMapping(value = "/signals", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void receiveSignalStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        signalBatchProcessor.processStream(body, response.getOutputStream());
     }
 }
@@ -0,0 +1,18 @@
+package com.bank.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSignalResponse {
+    private int processed;
+    private int failed;
+    private List<SignalResult> results;
+}
@@ -0,0 +1,21 @@
+package com.bank.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SignalResult {
+    /**
+     * The ID of the signal, or null if the item is not a valid signal ID.
+     */
+    private Integer signalId;
+    private SignalStatus status;
+    private String errorMessage;
+}
@@ -0,0 +1,13 @@
+package com.bank.trading.dto;
+
+/**
+ * The outcome of a single signal within a batch.
+ */
+public enum SignalStatus {
+    PROCESSED,
+    FAILED,
+    /**
+     * The item is not a signal ID and was skipped.
+     */
+    INVALID
+}
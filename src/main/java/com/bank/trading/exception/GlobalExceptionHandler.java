@@ -5,8 +5,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 /**
  * GlobalExceptionHandler is a controller advice class that handles exceptions globally for the trading application.
  * It provides exception handling methods for specific exception types and general exceptions.
@@ -20,7 +21,14 @@ public class GlobalExceptionHandler {
     public static final String ERROR_MESSAGE = "errorMessage";
 
     /**
-     * Handles the ResourceNotFoundException and returns a JSON map containing the error message.
+     * The response for a saturated request executor, which never changes.
+     */
+    private static final Map<String, String> REJECTED_RESPONSE =
+            Collections.singletonMap(ERROR_MESSAGE, "Too many signals in progress, try again later.");
+
+    /**
+     * Handles the ResourceNotFoundException and returns a JSON map containing the error message. The map is built
+     * with the exception, so exceptions that are created once for a misconfigured action do not allocate a response.
      *
      * @param ex The ResourceNotFoundException that was thrown.
      * @return A JSON map containing the error message.
@@ -28,9 +36,33 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(ResourceNotFoundException.class)
     public Map<String, String> handleBusinessException(ResourceNotFoundException ex) {
-        Map<String, String> errorMap = new HashMap<>();
-        errorMap.put(ERROR_MESSAGE, ex.getMessage());
-        return errorMap;
+        return ex.getErrorResponse();
+    }
+
+    /**
+     * Handles the SignalRejectedException thrown when the admission control sheds a signal and returns a JSON map
+     * containing the reason.
+     *
+     * @param ex The SignalRejectedException that was thrown.
+     * @return A JSON map containing the error message.
+     */
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(SignalRejectedException.class)
+    public Map<String, String> handleSignalRejectedException(SignalRejectedException ex) {
+        return ex.getErrorResponse();
+    }
+
+    /**
+     * Handles the RejectedExecutionException thrown when the asynchronous request executor is saturated and returns a
+     * JSON map containing the error message.
+     *
+     * @param ex The RejectedExecutionException that was thrown.
+     * @return A JSON map containing the error message.
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public Map<String, String> handleRejectedException(RejectedExecutionException ex) {
+        return REJECTED_RESPONSE;
     }
 
     /**
@@ -42,8 +74,6 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(Exception.class)
     public Map<String, String> handleBusinessException(Exception ex) {
-        Map<String, String> errorMap = new HashMap<>();
-        errorMap.put(ERROR_MESSAGE, ex.getMessage());
-        return errorMap;
+        return Collections.singletonMap(ERROR_MESSAGE, ex.getMessage());
     }
 }
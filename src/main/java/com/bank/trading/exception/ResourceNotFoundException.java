@@ -3,12 +3,42 @@ package com.bank.trading.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.Collections;
+import java.util.Map;
+
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException{
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The error response body, built once so that the same exception can be reported any number of times.
+	 */
+	private final transient Map<String, String> errorResponse;
+
 	public ResourceNotFoundException(String message) {
 		super(message);
+		this.errorResponse = Collections.singletonMap(GlobalExceptionHandler.ERROR_MESSAGE, message);
+	}
+
+	/**
+	 * Creates an exception without a stack trace and without suppressed exceptions. Such an exception is cheap to
+	 * create and immutable, so it can also be created once and thrown repeatedly from any thread.
+	 *
+	 * @param message The error message.
+	 * @param cause   The cause, or null.
+	 */
+	public ResourceNotFoundException(String message, Throwable cause) {
+		super(message, cause, false, false);
+		this.errorResponse = Collections.singletonMap(GlobalExceptionHandler.ERROR_MESSAGE, message);
+	}
+
+	/**
+	 * Returns the immutable error response body.
+	 *
+	 * @return A map containing the error message.
+	 */
+	public Map<String, String> getErrorResponse() {
+		return errorResponse;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.bank.trading.exception;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SignalRejectedException is thrown when the admission control sheds a signal because the system is saturated. It is
+ * reported as 429 Too Many Requests over HTTP and as a failed signal by the other ingresses.
+ * <p>
+ * The exception has no stack trace, so the instances created once per reason can be thrown any number of times from
+ * any thread.
+ */
+public class SignalRejectedException extends RejectedExecutionException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The error response body, built once so that the same exception can be reported any number of times.
+	 */
+	private final transient Map<String, String> errorResponse;
+
+	/**
+	 * Creates a new exception.
+	 *
+	 * @param message The error message.
+	 */
+	public SignalRejectedException(String message) {
+		super(message);
+		this.errorResponse = Collections.singletonMap(GlobalExceptionHandler.ERROR_MESSAGE, message);
+	}
+
+	/**
+	 * Returns the immutable error response body.
+	 *
+	 * @return A map containing the error message.
+	 */
+	public Map<String, String> getErrorResponse() {
+		return errorResponse;
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+}
@@ -0,0 +1,118 @@
+package com.bank.trading.ingress;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * IpcRingFormat describes the layout of the memory-mapped file shared by a signal producer and the
+ * {@link SharedMemorySignalServer}. The file is a single-producer/single-consumer ring buffer; all values are
+ * little-endian and all longs are 8 byte aligned.
+ * <p>
+ * The file starts with a {@value #HEADER_SIZE} byte header, followed by {@code capacity} slots of {@value #SLOT_SIZE}
+ * bytes. The two counters are on separate 128 byte lines, so the producer and the consumer do not write to the same
+ * cache lines:
+ * <pre>
+ * header:    0 int  magic ("SIPC")          slot:  0 long tag         chosen by the producer, not read by the app
+ *            4 int  version                        8 int  signalId
+ *            8 int  capacity (power of two)       12 int  status       written by the app, see STATUS_*
+ *           12 int  slot size
+ *           16 int  state       ACTIVE or FAILED, written by the app only
+ *          128 long published   written by the producer only
+ *          256 long completed   written by the app only
+ * </pre>
+ * Both counters count requests since the file was initialized; request {@code n} lives in slot
+ * {@code n & (capacity - 1)}. To send a signal, the producer waits until {@code published - completed < capacity},
+ * writes the slot of request {@code published} and then stores {@code published + 1} with release semantics. The app
+ * reads {@code published} with acquire semantics, handles the signals in order, writes the status of each slot and
+ * then stores its sequence plus one to {@code completed} with release semantics. A producer that reads
+ * {@code completed > n} with acquire semantics may read the status of request {@code n} until it reuses the slot.
+ * Neither side makes a system call.
+ * <p>
+ * The app creates and initializes the file, writing the magic last. If the file already has a valid header of the
+ * same capacity, the app keeps the counters and handles the requests published while it was down. It never
+ * re-initializes a file with a valid magic, since a producer may still have it mapped: a file of another capacity,
+ * version or slot size, or with inconsistent counters, is refused and has to be deleted while no producer is attached.
+ * <p>
+ * If the app finds the counters inconsistent while running, e.g. {@code published} behind {@code completed}, it stops
+ * consuming and stores {@link #STATE_FAILED} to the state with release semantics. A waiting producer should check the
+ * state and give up, since no further request of the file will be completed.
+ */
+public final class IpcRingFormat {
+
+    public static final int MAGIC = 0x53495043;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 384;
+    public static final int SLOT_SIZE = 16;
+
+    public static final int MAGIC_OFFSET = 0;
+    public static final int VERSION_OFFSET = 4;
+    public static final int CAPACITY_OFFSET = 8;
+    public static final int SLOT_SIZE_OFFSET = 12;
+    public static final int STATE_OFFSET = 16;
+    public static final int PUBLISHED_OFFSET = 128;
+    public static final int COMPLETED_OFFSET = 256;
+
+    public static final int TAG_OFFSET = 0;
+    public static final int SIGNAL_ID_OFFSET = 8;
+    public static final int STATUS_OFFSET = 12;
+
+    /**
+     * The state of a ring whose requests are handled by the app, while it is running.
+     */
+    public static final int STATE_ACTIVE = 0;
+
+    /**
+     * The state of a ring that the app found corrupt; its requests are no longer handled.
+     */
+    public static final int STATE_FAILED = 1;
+
+    /**
+     * The status of a request that has been published, but not handled yet.
+     */
+    public static final int STATUS_PENDING = -1;
+
+    /**
+     * The status of a handled signal, the same as the ack status of the TCP ingress.
+     */
+    public static final int STATUS_PROCESSED = TcpSignalServer.STATUS_PROCESSED;
+
+    /**
+     * The status of a signal that failed, the same as the ack status of the TCP ingress.
+     */
+    public static final int STATUS_FAILED = TcpSignalServer.STATUS_FAILED;
+
+    /**
+     * Accesses the ints of a mapped file, e.g. the magic with release semantics.
+     */
+    static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Accesses the longs of a mapped file, e.g. the counters with acquire and release semantics.
+     */
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private IpcRingFormat() {
+    }
+
+    /**
+     * Returns the size of a ring file.
+     *
+     * @param capacity The number of slots.
+     * @return The size in bytes.
+     */
+    public static long fileSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * SLOT_SIZE;
+    }
+
+    /**
+     * Returns the offset of the slot of a request.
+     *
+     * @param sequence The sequence of the request.
+     * @param capacity The number of slots.
+     * @return The offset of the slot in the file.
+     */
+    static int slotOffset(long sequence, int capacity) {
+        return HEADER_SIZE + (int) (sequence & (capacity - 1)) * SLOT_SIZE;
+    }
+}
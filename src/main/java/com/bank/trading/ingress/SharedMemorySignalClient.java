@@ -0,0 +1,220 @@
+package com.bank.trading.ingress;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static com.bank.trading.ingress.IpcRingFormat.*;
+
+/**
+ * SharedMemorySignalClient is the producer side of the ring file of a {@link SharedMemorySignalServer}, following the
+ * protocol documented in {@link IpcRingFormat}. It may run in another process. As the ring has a single producer, a
+ * client must only be used by one thread at a time, and only one client may be attached to a ring file.
+ * <p>
+ * When the app has marked the ring as failed, the waiting methods throw an {@link IllegalStateException} instead of
+ * waiting for requests that will never be completed.
+ */
+public class SharedMemorySignalClient {
+
+    /**
+     * Spinning only helps when the other side runs on another core; on a single CPU it delays the other side.
+     */
+    private static final int SPIN_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 0;
+
+    /**
+     * The status returned by {@link #send(int, long)} when the deadline has passed.
+     */
+    private static final int TIMED_OUT = Integer.MIN_VALUE;
+
+    private final MappedByteBuffer ring;
+    private final int capacity;
+
+    /**
+     * The sequence of the next request, which only this client writes.
+     */
+    private long published;
+
+    /**
+     * The last completed counter read from the ring; the app may have completed more since.
+     */
+    private long completed;
+
+    /**
+     * Attaches to an initialized ring file.
+     *
+     * @param file The ring file.
+     * @throws IOException           If the file cannot be mapped.
+     * @throws IllegalStateException If the file has not been initialized by the app, or has been marked as failed.
+     */
+    public SharedMemorySignalClient(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalStateException("IPC signal ring " + file + " is not initialized.");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if ((int) INT.getAcquire(buffer, MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+                || buffer.getInt(SLOT_SIZE_OFFSET) != SLOT_SIZE
+                || buffer.capacity() < fileSize(buffer.getInt(CAPACITY_OFFSET))) {
+            throw new IllegalStateException("IPC signal ring " + file + " is not initialized.");
+        }
+        if ((int) INT.getAcquire(buffer, STATE_OFFSET) == STATE_FAILED) {
+            throw new IllegalStateException("IPC signal ring " + file + " has been marked as failed by the app.");
+        }
+        this.ring = buffer;
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+        this.published = (long) LONG.getAcquire(buffer, PUBLISHED_OFFSET);
+        this.completed = (long) LONG.getAcquire(buffer, COMPLETED_OFFSET);
+    }
+
+    /**
+     * Publishes a signal if there is a free slot.
+     *
+     * @param signalId The ID of the trading signal.
+     * @param tag      A value stored with the request, e.g. the time it was sent.
+     * @return The sequence of the request, or -1 if the ring is full.
+     */
+    public long offer(int signalId, long tag) {
+        long sequence = published;
+        if (sequence - completed >= capacity) {
+            completed = (long) LONG.getAcquire(ring, COMPLETED_OFFSET);
+            if (sequence - completed >= capacity) {
+                return -1;
+            }
+        }
+        int slot = slotOffset(sequence, capacity);
+        ring.putLong(slot + TAG_OFFSET, tag);
+        ring.putInt(slot + SIGNAL_ID_OFFSET, signalId);
+        ring.putInt(slot + STATUS_OFFSET, STATUS_PENDING);
+        published = sequence + 1;
+        LONG.setRelease(ring, PUBLISHED_OFFSET, published);
+        return sequence;
+    }
+
+    /**
+     * Checks whether a request has been handled by the app.
+     *
+     * @param sequence The sequence of the request.
+     * @return True if the signal has been handled.
+     */
+    public boolean isCompleted(long sequence) {
+        if (sequence >= completed) {
+            completed = (long) LONG.getAcquire(ring, COMPLETED_OFFSET);
+        }
+        return sequence < completed;
+    }
+
+    /**
+     * Returns the status of a completed request. It is valid until the slot is reused, i.e. until {@code capacity}
+     * further signals have been published.
+     *
+     * @param sequence The sequence of a completed request.
+     * @return {@link IpcRingFormat#STATUS_PROCESSED} or {@link IpcRingFormat#STATUS_FAILED}.
+     */
+    public int status(long sequence) {
+        return ring.getInt(slotOffset(sequence, capacity) + STATUS_OFFSET);
+    }
+
+    /**
+     * Checks whether the app has marked the ring as failed, after which no request is completed any more.
+     *
+     * @return True if the ring has failed.
+     */
+    public boolean isFailed() {
+        return (int) INT.getAcquire(ring, STATE_OFFSET) == STATE_FAILED;
+    }
+
+    /**
+     * Sends a signal and waits until it has been handled, spinning at first and then yielding. There is no deadline,
+     * the call waits while the app is down; use {@link #send(int, Duration)} to bound the wait.
+     *
+     * @param signalId The ID of the trading signal.
+     * @return The status of the signal.
+     * @throws IllegalStateException If the ring has been marked as failed.
+     */
+    public int send(int signalId) {
+        return send(signalId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Sends a signal and waits at most the given time until it has been handled. A signal that timed out after it has
+     * been published stays in the ring and may still be handled later.
+     *
+     * @param signalId The ID of the trading signal.
+     * @param timeout  The maximum time to wait for a free slot and for the app to handle the signal.
+     * @return The status of the signal.
+     * @throws TimeoutException      If the signal has not been handled in time.
+     * @throws IllegalStateException If the ring has been marked as failed.
+     */
+    public int send(int signalId, Duration timeout) throws TimeoutException {
+        // Deadlines are compared by difference, which only works within half the range of nanoTime
+        long deadline = System.nanoTime() + Math.min(timeout.toNanos(), Long.MAX_VALUE / 2);
+        int status = send(signalId, deadline);
+        if (status == TIMED_OUT) {
+            throw new TimeoutException("Signal " + signalId + " was not handled within " + timeout + ".");
+        }
+        return status;
+    }
+
+    /**
+     * Sends a signal and waits until it has been handled or the deadline has passed.
+     *
+     * @param signalId The ID of the trading signal.
+     * @param deadline The {@link System#nanoTime()} deadline, or {@link Long#MAX_VALUE} to wait without one.
+     * @return The status of the signal, or {@link #TIMED_OUT}.
+     */
+    private int send(int signalId, long deadline) {
+        long sequence;
+        for (int tries = 0; (sequence = offer(signalId, 0)) < 0; tries++) {
+            if (!backOff(tries, deadline)) {
+                return TIMED_OUT;
+            }
+        }
+        for (int tries = 0; !isCompleted(sequence); tries++) {
+            if (!backOff(tries, deadline)) {
+                return TIMED_OUT;
+            }
+        }
+        return status(sequence);
+    }
+
+    /**
+     * Waits for the app, spinning for the first tries and yielding afterwards, so that a producer on the same core
+     * does not starve the consumer thread.
+     *
+     * @param tries    The number of previous tries.
+     * @param deadline The {@link System#nanoTime()} deadline, or {@link Long#MAX_VALUE} to wait without one.
+     * @return False if the deadline has passed.
+     * @throws IllegalStateException If the ring has been marked as failed.
+     */
+    private boolean backOff(int tries, long deadline) {
+        if (isFailed()) {
+            throw new IllegalStateException("IPC signal ring has been marked as failed by the app.");
+        }
+        if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+            return false;
+        }
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of slots of the ring.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,270 @@
+package com.bank.trading.ingress;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.bank.trading.ingress.IpcRingFormat.*;
+
+/**
+ * SharedMemorySignalServer is an ingress for a signal producer in another process on the same host, built on a
+ * memory-mapped file used as a single-producer/single-consumer ring buffer. The layout of the file and the protocol
+ * are documented in {@link IpcRingFormat}, so the producer can be written in any language; {@link
+ * SharedMemorySignalClient} is a Java producer.
+ * <p>
+ * A consumer thread polls the published counter, hands every signal in order to the SignalHandler and writes its
+ * status and the completed counter back into the file, so neither sending a signal nor waiting for its completion
+ * takes a system call or a copy. While there are no signals, the thread spins (unless there is only one CPU), then
+ * yields and finally parks for short intervals; with {@code busySpin} it never parks and occupies a core, for the
+ * lowest latency. Signals published while the app is down are handled when it starts again.
+ * <p>
+ * A failing signal, even one that throws an Error, is reported with a failed status and does not stop the consumer
+ * thread. If the counters of the file become inconsistent, the server stops, logs the error and marks the ring as
+ * failed, so that producers stop waiting; {@link #isRunning()} then returns false.
+ */
+@Slf4j
+public class SharedMemorySignalServer implements SmartLifecycle {
+
+    /**
+     * Spinning only helps when the other side runs on another core; on a single CPU it delays the other side.
+     */
+    private static final int SPIN_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 0;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    private final SignalHandler signalHandler;
+    private final Path file;
+    private final int capacity;
+    private final boolean busySpin;
+
+    private volatile boolean running;
+    private MappedByteBuffer ring;
+    private Thread thread;
+
+    /**
+     * Creates a new server.
+     *
+     * @param signalHandler The SignalHandler to which the signals are dispatched.
+     * @param file          The ring file, created if it does not exist, e.g. on /dev/shm.
+     * @param capacity      The number of slots, rounded up to a power of two.
+     * @param busySpin      Whether the consumer thread spins instead of parking while there are no signals.
+     */
+    public SharedMemorySignalServer(SignalHandler signalHandler, Path file, int capacity, boolean busySpin) {
+        if (capacity < 1 || capacity > 1 << 26) {
+            throw new IllegalArgumentException("Invalid IPC ring capacity " + capacity + ".");
+        }
+        this.signalHandler = signalHandler;
+        this.file = file;
+        this.capacity = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.busySpin = busySpin;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            ring = map();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to map IPC signal ring " + file, e);
+        }
+        running = true;
+        thread = new Thread(this::run, "ipc-signal-server");
+        thread.start();
+        log.info("IPC signal ring {} ready with {} slots.", file, capacity);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of slots of the ring.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Maps the ring file, initializing it unless it already has a valid magic. A file with a valid magic may still be
+     * mapped by a producer, so it is only used if it matches the configuration, and never re-initialized.
+     *
+     * @return The mapped file.
+     * @throws IOException           If the file cannot be created or mapped.
+     * @throws IllegalStateException If the file is an IPC ring that does not match the configuration, has
+     *                               inconsistent counters or has been marked as failed.
+     */
+    private MappedByteBuffer map() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            if (header.getInt(MAGIC_OFFSET) == MAGIC) {
+                return attach(channel, header);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        INT.setRelease(buffer, MAGIC_OFFSET, 0);
+        for (int offset = 4; offset < fileSize(capacity); offset += 4) {
+            buffer.putInt(offset, 0);
+        }
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(SLOT_SIZE_OFFSET, SLOT_SIZE);
+        INT.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+        return buffer;
+    }
+
+    /**
+     * Maps an existing ring file after checking that it can be resumed.
+     *
+     * @param channel The channel of the file.
+     * @param header  The header read from the file.
+     * @return The mapped file.
+     * @throws IOException           If the file cannot be mapped.
+     * @throws IllegalStateException If the file cannot be resumed.
+     */
+    private MappedByteBuffer attach(FileChannel channel, ByteBuffer header) throws IOException {
+        if (header.getInt(VERSION_OFFSET) != VERSION || header.getInt(SLOT_SIZE_OFFSET) != SLOT_SIZE
+                || header.getInt(CAPACITY_OFFSET) != capacity || channel.size() < fileSize(capacity)) {
+            throw refuse("has version " + header.getInt(VERSION_OFFSET) + " and " + header.getInt(CAPACITY_OFFSET)
+                    + " slots of " + header.getInt(SLOT_SIZE_OFFSET) + " bytes, expected version " + VERSION + " and "
+                    + capacity + " slots of " + SLOT_SIZE + " bytes");
+        }
+        if (header.getInt(STATE_OFFSET) == STATE_FAILED) {
+            throw refuse("has been marked as failed");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        long pending = (long) LONG.getAcquire(buffer, PUBLISHED_OFFSET)
+                - (long) LONG.getAcquire(buffer, COMPLETED_OFFSET);
+        if (pending < 0 || pending > capacity) {
+            throw refuse("has " + pending + " pending signals");
+        }
+        if (pending > 0) {
+            log.info("Resuming {} signals published to {} while the app was down.", pending, file);
+        }
+        return buffer;
+    }
+
+    /**
+     * Creates the exception for a ring file that cannot be used.
+     *
+     * @param reason The reason.
+     * @return The exception.
+     */
+    private IllegalStateException refuse(String reason) {
+        return new IllegalStateException("IPC signal ring " + file + " " + reason
+                + "; delete it while no producer is attached to re-create it.");
+    }
+
+    /**
+     * The consumer loop.
+     */
+    private void run() {
+        long next = (long) LONG.getAcquire(ring, COMPLETED_OFFSET);
+        int idle = 0;
+        while (running) {
+            long published = (long) LONG.getAcquire(ring, PUBLISHED_OFFSET);
+            long available = published - next;
+            if (available < 0 || available > capacity) {
+                fail(published, next);
+                return;
+            }
+            if (published == next) {
+                idle(idle);
+                if (idle < SPIN_TRIES + YIELD_TRIES) {
+                    idle++;
+                }
+                continue;
+            }
+            for (; next != published; next++) {
+                int slot = slotOffset(next, capacity);
+                ring.putInt(slot + STATUS_OFFSET, dispatch(ring.getInt(slot + SIGNAL_ID_OFFSET)));
+                LONG.setRelease(ring, COMPLETED_OFFSET, next + 1);
+            }
+            idle = 0;
+        }
+    }
+
+    /**
+     * Stops consuming a ring with inconsistent counters and marks it as failed, so that producers stop waiting.
+     *
+     * @param published The published counter.
+     * @param completed The completed counter.
+     */
+    private void fail(long published, long completed) {
+        log.error(" IPC signal ring {} is corrupt, published {} is not within {} slots ahead of completed {}, "
+                + "no further signals are handled.", file, published, capacity, completed);
+        INT.setRelease(ring, STATE_OFFSET, STATE_FAILED);
+        running = false;
+    }
+
+    /**
+     * Waits for the producer with an increasing back-off: spinning, then yielding, then parking, unless the server
+     * busy-spins.
+     *
+     * @param tries The number of previous polls that found no signal.
+     */
+    private void idle(int tries) {
+        if (busySpin || tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+    }
+
+    /**
+     * Dispatches a signal and maps the outcome to a status.
+     *
+     * @param signalId The ID of the trading signal.
+     * @return The status.
+     */
+    private int dispatch(int signalId) {
+        try {
+            signalHandler.handleSignal(signalId);
+            return STATUS_PROCESSED;
+        } catch (Throwable t) {
+            // Errors fail the signal as well, the consumer thread must keep completing requests. The producer sees the
+            // status, so a misconfigured signal at a high rate is only logged at debug level
+            log.debug("Signal {} received over IPC failed, {}", signalId, t.toString());
+            return STATUS_FAILED;
+        }
+    }
+}
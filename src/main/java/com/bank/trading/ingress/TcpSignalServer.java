@@ -0,0 +1,316 @@
+package com.bank.trading.ingress;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * TcpSignalServer is a binary TCP ingress for co-located signal producers, built on a single java.nio selector
+ * thread. Every frame is handed to the SignalHandler in the order in which it was received and answered with an ack.
+ * A connection may send any number of frames without waiting for their acks.
+ * <p>
+ * All values are big-endian. A request frame is 16 bytes:
+ * <pre>
+ *     offset 0  long sequence   chosen by the client, echoed in the ack
+ *     offset 8  int  signalId
+ *     offset 12 int  reserved   must be 0
+ * </pre>
+ * An ack frame is 16 bytes:
+ * <pre>
+ *     offset 0  long sequence   of the request
+ *     offset 8  int  signalId   of the request
+ *     offset 12 int  status     {@link #STATUS_PROCESSED} or {@link #STATUS_FAILED}
+ * </pre>
+ * Each connection owns one direct read buffer and one direct write buffer, which are returned to a pool when the
+ * connection closes; handling a frame does not allocate.
+ * <p>
+ * A failing signal, even one that throws an Error, is answered with {@link #STATUS_FAILED} and logged at debug level
+ * only, so that a misconfigured signal sent at a high rate does not flood the log. If the selector thread dies
+ * nevertheless, it logs the error and {@link #isRunning()} returns false.
+ */
+@Slf4j
+public class TcpSignalServer implements SmartLifecycle {
+
+    public static final int FRAME_SIZE = 16;
+    public static final int STATUS_PROCESSED = 0;
+    public static final int STATUS_FAILED = 1;
+
+    private final SignalHandler signalHandler;
+    private final InetSocketAddress address;
+    private final int bufferSize;
+    private final ArrayDeque<ByteBuffer> bufferPool = new ArrayDeque<>();
+
+    private volatile boolean running;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+
+    /**
+     * Creates a new server.
+     *
+     * @param signalHandler The SignalHandler to which the signals are dispatched.
+     * @param address       The address to listen on; port 0 selects a free port.
+     * @param bufferSize    The size of the read and write buffer of each connection, rounded down to whole frames.
+     */
+    public TcpSignalServer(SignalHandler signalHandler, InetSocketAddress address, int bufferSize) {
+        this.signalHandler = signalHandler;
+        this.address = address;
+        this.bufferSize = Math.max(FRAME_SIZE, bufferSize - bufferSize % FRAME_SIZE);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to start TCP signal server on " + address, e);
+        }
+        running = true;
+        thread = new Thread(this::run, "tcp-signal-server");
+        thread.start();
+        log.info("TCP signal server listening on {}.", getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * The selector loop.
+     */
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            log.error(" TCP signal server stopped, {}", e.getMessage());
+        } catch (Throwable t) {
+            log.error(" TCP signal server stopped unexpectedly", t);
+        } finally {
+            running = false;
+            closeAll();
+        }
+    }
+
+    /**
+     * Handles a ready key.
+     *
+     * @param key The selection key.
+     */
+    private void handle(SelectionKey key) {
+        try {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            Connection connection = (Connection) key.attachment();
+            if (key.isWritable()) {
+                connection.flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid()) {
+                connection.process();
+            }
+        } catch (IOException e) {
+            log.debug("Closing TCP signal connection, {}", e.getMessage());
+            close(key);
+        }
+    }
+
+    /**
+     * Accepts a pending connection.
+     *
+     * @throws IOException If the connection cannot be configured.
+     */
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(key, channel, borrowBuffer(), borrowBuffer()));
+    }
+
+    /**
+     * Closes a connection and returns its buffers to the pool.
+     *
+     * @param key The selection key of the connection.
+     */
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            log.debug("Error while closing TCP signal connection, {}", e.getMessage());
+        }
+        if (key.attachment() instanceof Connection connection) {
+            bufferPool.push(connection.in);
+            bufferPool.push(connection.out);
+            key.attach(null);
+        }
+    }
+
+    /**
+     * Closes the server, all connections and the selector.
+     */
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            close(key);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Error while closing TCP signal server, {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Takes a buffer from the pool or allocates a new one.
+     *
+     * @return A cleared direct buffer.
+     */
+    private ByteBuffer borrowBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Dispatches a signal and maps the outcome to an ack status.
+     *
+     * @param signalId The ID of the trading signal.
+     * @return The ack status.
+     */
+    private int dispatch(int signalId) {
+        try {
+            signalHandler.handleSignal(signalId);
+            return STATUS_PROCESSED;
+        } catch (Throwable t) {
+            // Errors fail the signal as well, the selector thread must keep serving every connection
+            log.debug("Signal {} received over TCP failed, {}", signalId, t.toString());
+            return STATUS_FAILED;
+        }
+    }
+
+    /**
+     * The state of one client connection.
+     */
+    private final class Connection {
+
+        private final SelectionKey key;
+        private final SocketChannel channel;
+        private final ByteBuffer in;
+        private final ByteBuffer out;
+
+        Connection(SelectionKey key, SocketChannel channel, ByteBuffer in, ByteBuffer out) {
+            this.key = key;
+            this.channel = channel;
+            this.in = in;
+            this.out = out;
+        }
+
+        /**
+         * Reads as many bytes as are available into the read buffer.
+         *
+         * @throws IOException If the connection was closed by the peer or reading fails.
+         */
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                throw new IOException("Connection closed by peer");
+            }
+        }
+
+        /**
+         * Handles every complete frame in the read buffer for which an ack fits into the write buffer, then writes
+         * the acks. Reading is paused while the write buffer is full.
+         *
+         * @throws IOException If writing fails.
+         */
+        void process() throws IOException {
+            in.flip();
+            while (in.remaining() >= FRAME_SIZE && out.remaining() >= FRAME_SIZE) {
+                long sequence = in.getLong();
+                int signalId = in.getInt();
+                in.getInt();
+                out.putLong(sequence).putInt(signalId).putInt(dispatch(signalId));
+            }
+            in.compact();
+            flush();
+        }
+
+        /**
+         * Writes pending acks and selects the operations to wait for next.
+         *
+         * @throws IOException If writing fails.
+         */
+        void flush() throws IOException {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            int ops = 0;
+            if (out.position() > 0) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            if (in.hasRemaining() && out.remaining() >= FRAME_SIZE) {
+                ops |= SelectionKey.OP_READ;
+            }
+            key.interestOps(ops);
+        }
+    }
+}
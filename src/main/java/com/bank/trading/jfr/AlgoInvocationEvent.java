@@ -0,0 +1,58 @@
+package com.bank.trading.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * AlgoInvocationEvent is a JFR event for one call of an Algo method through the {@code AlgoMethodInvoker}. Actions run
+ * by a generated executor do not go through the invoker and are not recorded. Like {@link SignalEvent}, it is disabled
+ * unless a recording uses the settings in {@code trading.jfc}.
+ */
+@Name(AlgoInvocationEvent.NAME)
+@Label("Algo Invocation")
+@Category({"Trading", "Algo"})
+@Description("Call of an Algo method through the AlgoMethodInvoker")
+@Enabled(false)
+@StackTrace(false)
+public class AlgoInvocationEvent extends Event {
+
+    public static final String NAME = "com.bank.trading.AlgoInvocation";
+
+    public static final String OUTCOME_OK = "ok";
+    public static final String OUTCOME_FAILED = "failed";
+    public static final String OUTCOME_NOT_FOUND = "not found";
+
+    /**
+     * An instance that is never committed, used to check whether the event is enabled.
+     */
+    private static final AlgoInvocationEvent PROBE = new AlgoInvocationEvent();
+
+    @Label("Method")
+    public String method;
+
+    @Label("Argument Count")
+    public int argumentCount;
+
+    @Label("Outcome")
+    @Description("\"ok\", \"failed\" if the method threw an exception, or \"not found\" if no method matches")
+    public String outcome;
+
+    /**
+     * Creates and begins an event if it is enabled in a running recording. Disabled events are not allocated.
+     *
+     * @return The begun event, or null if the event is disabled.
+     */
+    public static AlgoInvocationEvent beginIfEnabled() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        AlgoInvocationEvent event = new AlgoInvocationEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,63 @@
+package com.bank.trading.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SignalEvent is a JFR event for one call of {@code SignalProcessor.handleSignal}, from the lookup of the signal until
+ * {@code doAlgo} has returned. It is disabled unless a recording uses the settings in {@code trading.jfc}; while it
+ * is disabled, handling a signal costs one check of a flag, see {@link #beginIfEnabled()}.
+ */
+@Name(SignalEvent.NAME)
+@Label("Signal")
+@Category({"Trading", "Signals"})
+@Description("Handling of a trading signal by the SignalProcessor")
+@Enabled(false)
+@StackTrace(false)
+public class SignalEvent extends Event {
+
+    public static final String NAME = "com.bank.trading.Signal";
+
+    /**
+     * An instance that is never committed, used to check whether the event is enabled.
+     */
+    private static final SignalEvent PROBE = new SignalEvent();
+
+    @Label("Signal ID")
+    public int signalId;
+
+    @Label("Configured")
+    @Description("False if the signal is not configured and fell back to cancelTrades")
+    public boolean configured;
+
+    @Label("Action Count")
+    @Description("The number of configured actions of the signal")
+    public int actionCount;
+
+    @Label("Compiled")
+    @Description("Whether the actions were run by a generated executor")
+    public boolean compiled;
+
+    @Label("Failed")
+    public boolean failed;
+
+    /**
+     * Creates and begins an event if it is enabled in a running recording. Disabled events are not allocated, since
+     * escape analysis does not reliably remove them from the deep signal path.
+     *
+     * @return The begun event, or null if the event is disabled.
+     */
+    public static SignalEvent beginIfEnabled() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        SignalEvent event = new SignalEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,130 @@
+package com.bank.trading.jfr;
+
+import com.bank.trading.console.AsyncConsole;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SignalFlightRecorder runs a continuous JFR recording while the application is running. The recording combines the
+ * {@code default} settings of the JDK, which are designed for production use, with the settings of the trading
+ * events, so a recording opened in JDK Mission Control shows the signals and slow Algo calls next to the CPU, GC and
+ * lock events of the same time.
+ * <p>
+ * The recording is kept on disk for at most {@code maxAge} and {@code maxSize}, and written to the destination when
+ * the application stops, or when the JVM exits without stopping it.
+ */
+@Slf4j
+public class SignalFlightRecorder implements SmartLifecycle {
+
+    /**
+     * The recorder is started before and stopped after the console, so that it covers the whole dispatch path.
+     */
+    public static final int PHASE = AsyncConsole.PHASE - 1024;
+
+    public static final String RECORDING_NAME = "trading";
+
+    private final Configuration configuration;
+    private final Path destination;
+    private final Duration maxAge;
+    private final long maxSize;
+    private Recording recording;
+
+    /**
+     * Creates a new flight recorder.
+     *
+     * @param configuration The settings of the trading events, e.g. those of {@code trading.jfc}.
+     * @param destination   The file the recording is written to.
+     * @param maxAge        The maximum age of the recorded data kept on disk.
+     * @param maxSize       The maximum size in bytes of the recorded data kept on disk.
+     */
+    public SignalFlightRecorder(Configuration configuration, Path destination, Duration maxAge, long maxSize) {
+        this.configuration = configuration;
+        this.destination = destination;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the running recording.
+     *
+     * @return The recording, or null if the recorder is not running.
+     */
+    public synchronized Recording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Merges the default settings of the JDK with the settings of the trading events.
+     *
+     * @return The settings of the recording.
+     */
+    private Map<String, String> settings() {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not read the default JFR settings.", e);
+        }
+        settings.putAll(configuration.getSettings());
+        return settings;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (recording != null) {
+            return;
+        }
+        Recording started = new Recording(settings());
+        try {
+            Path parent = destination.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSize);
+            started.setDumpOnExit(true);
+            started.setDestination(destination);
+        } catch (IOException e) {
+            started.close();
+            throw new UncheckedIOException("Could not prepare the flight recording " + destination + ".", e);
+        }
+        started.start();
+        recording = started;
+        log.info("Started flight recording '{}', written to {}.", RECORDING_NAME, destination);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        // Stopping writes the recording to its destination
+        recording.stop();
+        recording.close();
+        recording = null;
+        log.info("Flight recording written to {}.", destination);
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
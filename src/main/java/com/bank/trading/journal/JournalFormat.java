@@ -0,0 +1,89 @@
+package com.bank.trading.journal;
+
+/**
+ * JournalFormat describes the binary layout of the journal segment files. All values are big-endian.
+ * <p>
+ * A segment file is named {@code signals-<index>.journal}, where the index is a zero padded, increasing number. It
+ * starts with a {@value #HEADER_SIZE} byte header, followed by fixed-size records of {@value #RECORD_SIZE} bytes:
+ * <pre>
+ * header:  0 int  magic ("SJNL")         record:  0 long timestamp (nanoseconds since the epoch)
+ *          4 int  version                          8 long sequence
+ *          8 int  record size                     16 int  signal ID
+ *         12 int  reserved                        20 int  action index, -1 for signal records
+ *         16 long sequence of first record        24 int  duration in nanoseconds, saturated
+ *         24 long creation time (epoch millis)    28 byte type, 0 marks the end of the written records
+ *                                                 29 byte outcome
+ *                                                 30 short reserved
+ * </pre>
+ * Signal records are written once a signal has been handled and carry the time it started; the records of its actions
+ * precede it. Sequences increase by one per record across segments and restarts.
+ */
+public final class JournalFormat {
+
+    public static final int MAGIC = 0x534A4E4C;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 32;
+
+    public static final int TIMESTAMP_OFFSET = 0;
+    public static final int SEQUENCE_OFFSET = 8;
+    public static final int SIGNAL_ID_OFFSET = 16;
+    public static final int ACTION_INDEX_OFFSET = 20;
+    public static final int DURATION_OFFSET = 24;
+    public static final int TYPE_OFFSET = 28;
+    public static final int OUTCOME_OFFSET = 29;
+
+    /**
+     * A configured signal that has been handled.
+     */
+    public static final byte TYPE_SIGNAL = 1;
+
+    /**
+     * A signal that is not configured and has been handled by cancelling all trades.
+     */
+    public static final byte TYPE_UNKNOWN_SIGNAL = 2;
+
+    /**
+     * An action executed through the AlgoMethodInvoker.
+     */
+    public static final byte TYPE_ACTION = 3;
+
+    public static final byte OUTCOME_OK = 0;
+    public static final byte OUTCOME_FAILED = 1;
+
+    static final String FILE_PREFIX = "signals-";
+    static final String FILE_SUFFIX = ".journal";
+
+    private JournalFormat() {
+    }
+
+    /**
+     * Returns the file name of a segment.
+     *
+     * @param index The index of the segment.
+     * @return The file name.
+     */
+    static String fileName(long index) {
+        return String.format("%s%020d%s", FILE_PREFIX, index, FILE_SUFFIX);
+    }
+
+    /**
+     * Checks whether a file name is the name of a segment.
+     *
+     * @param fileName The file name.
+     * @return True if the file is a journal segment.
+     */
+    static boolean isSegment(String fileName) {
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    /**
+     * Parses the index of a segment from its file name.
+     *
+     * @param fileName The file name of the segment.
+     * @return The index of the segment.
+     */
+    static long segmentIndex(String fileName) {
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+}
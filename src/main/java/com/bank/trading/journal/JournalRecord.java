@@ -0,0 +1,34 @@
+package com.bank.trading.journal;
+
+/**
+ * A record read back from the journal, see {@link JournalFormat} for the meaning of the fields.
+ *
+ * @param timestamp     The time in nanoseconds since the epoch at which the signal or action started.
+ * @param sequence      The sequence of the record.
+ * @param signalId      The ID of the trading signal.
+ * @param actionIndex   The index of the action within the signal, or -1 for signal records.
+ * @param durationNanos The time the signal or action took in nanoseconds.
+ * @param type          The type of the record.
+ * @param outcome       The outcome of the signal or action.
+ */
+public record JournalRecord(long timestamp, long sequence, int signalId, int actionIndex, int durationNanos,
+                            byte type, byte outcome) {
+
+    /**
+     * Checks whether the record describes a handled signal, configured or not.
+     *
+     * @return True for signal records, false for action records.
+     */
+    public boolean isSignal() {
+        return type == JournalFormat.TYPE_SIGNAL || type == JournalFormat.TYPE_UNKNOWN_SIGNAL;
+    }
+
+    /**
+     * Checks whether the signal or action failed.
+     *
+     * @return True if the outcome is a failure.
+     */
+    public boolean isFailed() {
+        return outcome == JournalFormat.OUTCOME_FAILED;
+    }
+}
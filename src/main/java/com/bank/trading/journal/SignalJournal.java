@@ -0,0 +1,481 @@
+package com.bank.trading.journal;
+
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.TradingProperties.FsyncPolicy;
+import com.bank.trading.config.TradingProperties.OverflowPolicy;
+import com.bank.trading.pipeline.SequencedSignalPipeline;
+import com.bank.trading.service.SignalExecutionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SignalJournal writes a durable, append-only record of every handled signal and every action executed through the
+ * AlgoMethodInvoker to memory-mapped segment files, see {@link JournalFormat} for the layout.
+ * <p>
+ * Request threads only copy the fields of a record into a pre-allocated ring buffer, claimed with a compare-and-set;
+ * a single writer thread drains the ring buffer into the mapped segment, rolls over to a new segment when the current
+ * one is full and forces written records to the storage device according to the {@link FsyncPolicy}. Recording a
+ * record therefore neither allocates nor performs I/O. When the ring buffer is full, producers either wait or drop the
+ * record, depending on the {@link OverflowPolicy}; dropped records leave no gap in the sequence and are only counted.
+ * If the writer fails, e.g. because a segment cannot be created, the journal keeps running but drops and counts every
+ * further record, including those claimed but not written yet.
+ * <p>
+ * Signals executed by a generated executor are journaled without action records.
+ */
+@Slf4j
+public class SignalJournal implements SignalExecutionListener, SmartLifecycle {
+
+    /**
+     * The journal is started before and stopped after the dispatch stages, so that it records every signal they
+     * process.
+     */
+    public static final int PHASE = SequencedSignalPipeline.PHASE - 1024;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    /**
+     * The bit set in {@link #claimed} once the journal has been stopped or its writer has failed, and no further slots
+     * may be claimed.
+     */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final boolean dropWhenFull;
+    private final long epochOffsetNanos;
+
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] signalIds;
+    private final int[] actionIndexes;
+    private final int[] durations;
+    private final byte[] types;
+    private final byte[] outcomes;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(CLOSED);
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * The ring buffer sequence up to which (exclusive) records have been written and slots may be reused.
+     */
+    private volatile long consumed;
+
+    private volatile boolean writerWaiting;
+    private volatile boolean running;
+    private volatile boolean writerFailed;
+    private Thread writer;
+
+    // State of the writer thread
+    private long next;
+    private long firstSequence;
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int recordsInSegment;
+    private int unforcedFrom;
+    private long lastForce;
+
+    /**
+     * Creates a new journal.
+     *
+     * @param directory     The directory of the segment files, created if it does not exist.
+     * @param segmentSize   The size of a segment file in bytes.
+     * @param capacity      The number of records of the ring buffer, rounded up to a power of two.
+     * @param fsyncPolicy   When written records are forced to the storage device.
+     * @param fsyncInterval The maximum time between two forces with {@link FsyncPolicy#INTERVAL}.
+     * @param overflow      What producers do when the ring buffer is full.
+     */
+    public SignalJournal(Path directory, long segmentSize, int capacity, FsyncPolicy fsyncPolicy,
+                         Duration fsyncInterval, OverflowPolicy overflow) {
+        long records = (segmentSize - JournalFormat.HEADER_SIZE) / JournalFormat.RECORD_SIZE;
+        if (records < 1 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal segment size must be between "
+                    + (JournalFormat.HEADER_SIZE + JournalFormat.RECORD_SIZE) + " bytes and 2 GB.");
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.directory = directory;
+        this.recordsPerSegment = (int) records;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.dropWhenFull = overflow == OverflowPolicy.DROP;
+        this.epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - System.nanoTime();
+        this.mask = size - 1;
+        this.timestamps = new long[size];
+        this.signalIds = new int[size];
+        this.actionIndexes = new int[size];
+        this.durations = new int[size];
+        this.types = new byte[size];
+        this.outcomes = new byte[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Records an action executed through the AlgoMethodInvoker. The fallback action of unknown signals is implied by
+     * the signal record and not journaled separately.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param signal        The compiled signal, or null if the action is the fallback for an unknown signal.
+     * @param actionIndex   The index of the action within the signal, or -1 for the fallback action.
+     * @param action        The executed action.
+     * @param durationNanos The time the action took in nanoseconds.
+     * @param failed        Whether the action failed with a reflective error.
+     */
+    @Override
+    public void onAction(SignalPlan plan, CompiledSignal signal, int actionIndex, SignalAction action,
+                         long durationNanos, boolean failed) {
+        if (signal != null) {
+            append(JournalFormat.TYPE_ACTION, signal.getId(), actionIndex, durationNanos, failed);
+        }
+    }
+
+    /**
+     * Records a handled signal.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param signal        The compiled signal, or null if the signal is not configured.
+     * @param signalId      The ID of the trading signal.
+     * @param durationNanos The time the signal took in nanoseconds.
+     * @param failed        Whether handling the signal ended with an exception.
+     */
+    @Override
+    public void onSignal(SignalPlan plan, CompiledSignal signal, int signalId, long durationNanos, boolean failed) {
+        byte type = signal != null ? JournalFormat.TYPE_SIGNAL : JournalFormat.TYPE_UNKNOWN_SIGNAL;
+        append(type, signalId, -1, durationNanos, failed);
+    }
+
+    /**
+     * Returns the number of records that were dropped because the ring buffer was full, the journal not running or its
+     * writer failed.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Claims a slot of the ring buffer and publishes a record into it.
+     *
+     * @param type          The type of the record.
+     * @param signalId      The ID of the trading signal.
+     * @param actionIndex   The index of the action, or -1.
+     * @param durationNanos The duration of the signal or action.
+     * @param failed        Whether the signal or action failed.
+     */
+    private void append(byte type, int signalId, int actionIndex, long durationNanos, boolean failed) {
+        long now = System.nanoTime();
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        int index = (int) sequence & mask;
+        timestamps[index] = epochOffsetNanos + now - durationNanos;
+        signalIds[index] = signalId;
+        actionIndexes[index] = actionIndex;
+        durations[index] = (int) Math.min(durationNanos, Integer.MAX_VALUE);
+        types[index] = type;
+        outcomes[index] = failed ? JournalFormat.OUTCOME_FAILED : JournalFormat.OUTCOME_OK;
+        published.set(index, sequence);
+        if (writerWaiting) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Checks whether the writer has failed, after which every record is dropped until the journal is restarted.
+     *
+     * @return True if the writer has failed.
+     */
+    public boolean isWriterFailed() {
+        return writerFailed;
+    }
+
+    /**
+     * Claims the next slot of the ring buffer.
+     *
+     * @return The ring buffer sequence of the slot, or -1 if the record is to be dropped.
+     */
+    private long claim() {
+        for (int tries = 0; ; ) {
+            long sequence = claimed.get();
+            if ((sequence & CLOSED) != 0) {
+                return -1;
+            }
+            if (sequence - consumed >= timestamps.length) {
+                if (dropWhenFull) {
+                    return -1;
+                }
+                backOff(tries++);
+            } else if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Runs the writer thread. If writing fails, the ring buffer is closed, so that further records are dropped, and
+     * the records claimed but not written are counted as dropped as well. The segment is still closed by {@link #stop()}.
+     */
+    private void runWriter() {
+        next = consumed;
+        try {
+            write();
+        } catch (Throwable t) {
+            writerFailed = true;
+            long end = claimed.getAndUpdate(sequence -> sequence | CLOSED) & ~CLOSED;
+            dropped.add(end - next);
+            consumed = end;
+            log.error(" Journal writer failed, records are dropped from now on, {}", t.getMessage());
+        }
+    }
+
+    /**
+     * Drains published records into the journal until the journal is stopped and every claimed record is written.
+     */
+    private void write() {
+        int idle = 0;
+        while (true) {
+            int index = (int) next & mask;
+            if (published.get(index) == next) {
+                do {
+                    writeRecord(index, next);
+                    next++;
+                    index = (int) next & mask;
+                } while (published.get(index) == next);
+                consumed = next;
+                idle = 0;
+                if (fsyncPolicy == FsyncPolicy.ALWAYS || fsyncPolicy == FsyncPolicy.INTERVAL
+                        && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+                    force();
+                }
+            } else if (claimed.get() == (next | CLOSED)) {
+                return;
+            } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                backOff(idle++);
+            } else {
+                if (fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+                    force();
+                }
+                writerWaiting = true;
+                if (published.get(index) != next && (claimed.get() & CLOSED) == 0) {
+                    LockSupport.parkNanos(this, fsyncPolicy == FsyncPolicy.INTERVAL
+                            ? Math.min(fsyncIntervalNanos, TimeUnit.MILLISECONDS.toNanos(100)) : PARK_NANOS);
+                }
+                writerWaiting = false;
+            }
+        }
+    }
+
+    /**
+     * Writes the record of one slot to the mapped segment, rolling over to a new segment if necessary.
+     *
+     * @param index    The index of the slot.
+     * @param sequence The ring buffer sequence of the record.
+     */
+    private void writeRecord(int index, long sequence) {
+        if (recordsInSegment == recordsPerSegment) {
+            closeSegment();
+            openSegment(segmentIndex + 1, firstSequence + sequence);
+        }
+        int offset = JournalFormat.HEADER_SIZE + recordsInSegment * JournalFormat.RECORD_SIZE;
+        segment.putLong(offset + JournalFormat.TIMESTAMP_OFFSET, timestamps[index]);
+        segment.putLong(offset + JournalFormat.SEQUENCE_OFFSET, firstSequence + sequence);
+        segment.putInt(offset + JournalFormat.SIGNAL_ID_OFFSET, signalIds[index]);
+        segment.putInt(offset + JournalFormat.ACTION_INDEX_OFFSET, actionIndexes[index]);
+        segment.putInt(offset + JournalFormat.DURATION_OFFSET, durations[index]);
+        segment.put(offset + JournalFormat.OUTCOME_OFFSET, outcomes[index]);
+        // The type is written last, a record with a type of 0 marks the end of the segment
+        segment.put(offset + JournalFormat.TYPE_OFFSET, types[index]);
+        recordsInSegment++;
+    }
+
+    /**
+     * Forces the records written since the last force to the storage device.
+     */
+    private void force() {
+        int unforcedTo = JournalFormat.HEADER_SIZE + recordsInSegment * JournalFormat.RECORD_SIZE;
+        if (unforcedTo > unforcedFrom) {
+            segment.force(unforcedFrom, unforcedTo - unforcedFrom);
+            unforcedFrom = unforcedTo;
+        }
+        lastForce = System.nanoTime();
+    }
+
+    /**
+     * Creates and maps a new segment file and writes its header.
+     *
+     * @param index        The index of the segment.
+     * @param nextSequence The sequence of the first record of the segment.
+     */
+    private void openSegment(long index, long nextSequence) {
+        Path file = directory.resolve(JournalFormat.fileName(index));
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    JournalFormat.HEADER_SIZE + (long) recordsPerSegment * JournalFormat.RECORD_SIZE);
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                channel = null;
+            }
+            throw new UncheckedIOException("Cannot create journal segment " + file, e);
+        }
+        segment.putInt(0, JournalFormat.MAGIC);
+        segment.putInt(4, JournalFormat.VERSION);
+        segment.putInt(8, JournalFormat.RECORD_SIZE);
+        segment.putLong(16, nextSequence);
+        segment.putLong(24, System.currentTimeMillis());
+        segmentIndex = index;
+        recordsInSegment = 0;
+        unforcedFrom = 0;
+        log.info("Opened journal segment {}", file);
+    }
+
+    /**
+     * Forces the current segment, unless fsync is disabled, and closes its file channel. The mapping itself is released
+     * when the buffer is garbage collected.
+     */
+    private void closeSegment() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (fsyncPolicy != FsyncPolicy.NONE) {
+                force();
+            }
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error(" Error while closing journal segment {}, {}", segmentIndex, e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * Finds the sequence following the last record of the existing segments and the index of the next segment.
+     *
+     * @throws IOException If the directory cannot be created or an existing segment cannot be read.
+     */
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = SignalJournalReader.segments(directory);
+        if (segments.isEmpty()) {
+            segmentIndex = -1;
+            firstSequence = 0;
+            return;
+        }
+        Path last = segments.get(segments.size() - 1);
+        segmentIndex = JournalFormat.segmentIndex(last.getFileName().toString());
+        long lastSequence = -1;
+        for (int i = segments.size() - 1; i >= 0 && lastSequence < 0; i--) {
+            try (SignalJournalReader reader = new SignalJournalReader(List.of(segments.get(i)))) {
+                for (JournalRecord record = reader.next(); record != null; record = reader.next()) {
+                    lastSequence = record.sequence();
+                }
+            }
+        }
+        firstSequence = lastSequence + 1;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the journal in " + directory, e);
+        }
+        // Sequences of this run start after the last journaled record
+        long sequence = consumed;
+        firstSequence -= sequence;
+        openSegment(segmentIndex + 1, firstSequence + sequence);
+        lastForce = System.nanoTime();
+        running = true;
+        writerFailed = false;
+        writer = new Thread(this::runWriter, "signal-journal");
+        writer.setDaemon(true);
+        // Reopen the ring buffer; all slots claimed before the last stop have been written or counted as dropped
+        claimed.set(sequence);
+        writer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Also after a failure of the writer, which may have left the segment open
+        try {
+            closeSegment();
+        } catch (RuntimeException e) {
+            log.error(" Error while closing journal segment {}, {}", segmentIndex, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Spins, then yields, then parks briefly, depending on how long the caller has been waiting.
+     *
+     * @param tries The number of unsuccessful tries so far.
+     */
+    private static void backOff(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
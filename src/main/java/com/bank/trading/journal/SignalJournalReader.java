@@ -0,0 +1,177 @@
+package com.bank.trading.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * SignalJournalReader streams the records of a journal directory in sequence order. Segments are read through a small
+ * buffer, so journals of any size can be read without loading them into memory.
+ */
+public final class SignalJournalReader implements Closeable {
+
+    private static final int BUFFER_RECORDS = 2048;
+
+    private final List<Path> segments;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_RECORDS * JournalFormat.RECORD_SIZE);
+    private int nextSegment;
+    private FileChannel channel;
+    private long position;
+
+    /**
+     * Creates a reader of the given segments.
+     *
+     * @param segments The segment files, ordered by their index.
+     */
+    SignalJournalReader(List<Path> segments) {
+        this.segments = segments;
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Opens a reader of all segments in the directory.
+     *
+     * @param directory The journal directory.
+     * @return The reader, positioned before the first record.
+     * @throws IOException If the directory cannot be listed.
+     */
+    public static SignalJournalReader open(Path directory) throws IOException {
+        return new SignalJournalReader(segments(directory));
+    }
+
+    /**
+     * Passes every record of every segment in the directory to the consumer.
+     *
+     * @param directory The journal directory.
+     * @param consumer  The consumer of the records.
+     * @throws IOException If a segment cannot be read or is not a journal segment.
+     */
+    public static void read(Path directory, Consumer<JournalRecord> consumer) throws IOException {
+        try (SignalJournalReader reader = open(directory)) {
+            for (JournalRecord record = reader.next(); record != null; record = reader.next()) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The next record, or null if all segments have been read.
+     * @throws IOException If a segment cannot be read or is not a journal segment.
+     */
+    public JournalRecord next() throws IOException {
+        while (true) {
+            if (buffer.remaining() < JournalFormat.RECORD_SIZE && !fill()) {
+                return null;
+            }
+            int offset = buffer.position();
+            byte type = buffer.get(offset + JournalFormat.TYPE_OFFSET);
+            if (type == 0) {
+                // The rest of the segment has not been written
+                closeSegment();
+                continue;
+            }
+            buffer.position(offset + JournalFormat.RECORD_SIZE);
+            return new JournalRecord(buffer.getLong(offset + JournalFormat.TIMESTAMP_OFFSET),
+                    buffer.getLong(offset + JournalFormat.SEQUENCE_OFFSET),
+                    buffer.getInt(offset + JournalFormat.SIGNAL_ID_OFFSET),
+                    buffer.getInt(offset + JournalFormat.ACTION_INDEX_OFFSET),
+                    buffer.getInt(offset + JournalFormat.DURATION_OFFSET),
+                    type,
+                    buffer.get(offset + JournalFormat.OUTCOME_OFFSET));
+        }
+    }
+
+    /**
+     * Reads the next records into the buffer, moving on to the next segment when the current one is exhausted.
+     *
+     * @return False if all segments have been read.
+     * @throws IOException If a segment cannot be read or is not a journal segment.
+     */
+    private boolean fill() throws IOException {
+        while (true) {
+            if (channel == null) {
+                if (nextSegment == segments.size()) {
+                    return false;
+                }
+                openSegment(segments.get(nextSegment++));
+            }
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read >= JournalFormat.RECORD_SIZE) {
+                int records = read - read % JournalFormat.RECORD_SIZE;
+                position += records;
+                buffer.position(0).limit(records);
+                return true;
+            }
+            closeSegment();
+        }
+    }
+
+    /**
+     * Opens a segment and validates its header.
+     *
+     * @param segment The segment file.
+     * @throws IOException If the segment cannot be read or is not a journal segment.
+     */
+    private void openSegment(Path segment) throws IOException {
+        channel = FileChannel.open(segment, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(JournalFormat.HEADER_SIZE);
+        if (channel.read(header, 0) < JournalFormat.HEADER_SIZE || header.getInt(0) != JournalFormat.MAGIC) {
+            closeSegment();
+            throw new IOException(segment + " is not a journal segment.");
+        }
+        if (header.getInt(4) != JournalFormat.VERSION || header.getInt(8) != JournalFormat.RECORD_SIZE) {
+            closeSegment();
+            throw new IOException(segment + " has an unsupported journal version.");
+        }
+        position = JournalFormat.HEADER_SIZE;
+    }
+
+    /**
+     * Closes the current segment and discards its buffered records.
+     *
+     * @throws IOException If the segment cannot be closed.
+     */
+    private void closeSegment() throws IOException {
+        buffer.limit(0);
+        if (channel != null) {
+            FileChannel current = channel;
+            channel = null;
+            current.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeSegment();
+        nextSegment = segments.size();
+    }
+
+    /**
+     * Returns the segment files of a journal directory, ordered by their index.
+     *
+     * @param directory The journal directory.
+     * @return The segment files, empty if the directory does not exist.
+     * @throws IOException If the directory cannot be listed.
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> JournalFormat.isSegment(file.getFileName().toString()))
+                    .sorted((a, b) -> Long.compare(JournalFormat.segmentIndex(a.getFileName().toString()),
+                            JournalFormat.segmentIndex(b.getFileName().toString())))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.bank.trading.metrics;
+
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.TradingProperties;
+import com.bank.trading.service.SignalExecutionListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SignalMetrics records the latency of every signal and of every action as a Micrometer timer with a percentile
+ * histogram, and counts fallbacks for unknown signals and reflective action failures.
+ * <p>
+ * All meters of a plan are registered up front, when the plan is published, and kept in arrays indexed by the ordinal
+ * of the signal and the index of the action. Recording a value is therefore an array access followed by
+ * {@link Timer#record(long, TimeUnit)} and does not allocate. Signals that are still running against a replaced plan
+ * are recorded through a registry lookup instead.
+ */
+@Component
+@ConditionalOnProperty(prefix = "trading.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SignalMetrics implements SignalExecutionListener {
+
+    public static final String SIGNAL_LATENCY = "trading.signal.latency";
+    public static final String ACTION_LATENCY = "trading.action.latency";
+    public static final String ACTION_FAILURES = "trading.action.failures";
+    public static final String SIGNAL_FALLBACKS = "trading.signal.fallbacks";
+
+    /**
+     * The signal tag of signals that are not configured.
+     */
+    static final String UNKNOWN_SIGNAL = "unknown";
+
+    /**
+     * The signal tag of the signals beyond the configured maximum number of signal timers.
+     */
+    static final String OTHER_SIGNAL = "other";
+
+    private final MeterRegistry registry;
+    private final SignalPlanHolder signalPlanHolder;
+    private final int maxSignalTimers;
+    private final Timer unknownSignalTimer;
+    private final ActionMeters fallbackAction;
+    private final Counter fallbacks;
+    private volatile PlanMeters planMeters;
+
+    /**
+     * Creates the metrics and registers the meters of the active plan.
+     *
+     * @param registry         The registry the meters are registered with.
+     * @param signalPlanHolder The holder of the active plan, which is observed for reloads.
+     * @param properties       The trading properties, which hold the metrics settings.
+     */
+    public SignalMetrics(MeterRegistry registry, SignalPlanHolder signalPlanHolder, TradingProperties properties) {
+        this.registry = registry;
+        this.signalPlanHolder = signalPlanHolder;
+        this.maxSignalTimers = properties.getMetrics().getMaxSignalTimers();
+        this.unknownSignalTimer = signalTimer(UNKNOWN_SIGNAL);
+        this.fallbackAction = actionMeters("cancelTrades");
+        this.fallbacks = Counter.builder(SIGNAL_FALLBACKS)
+                .description("Signals that were not configured and fell back to cancelTrades")
+                .register(registry);
+        this.planMeters = new PlanMeters(signalPlanHolder.current());
+        signalPlanHolder.addPublishListener(this::metersFor);
+    }
+
+    /**
+     * Records the latency of an action and counts it if it failed.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param signal        The compiled signal, or null if the action is the fallback for an unknown signal.
+     * @param actionIndex   The index of the action within the signal, or -1 for the fallback action.
+     * @param action        The executed action.
+     * @param durationNanos The time the action took in nanoseconds.
+     * @param failed        Whether the action failed with a reflective error.
+     */
+    @Override
+    public void onAction(SignalPlan plan, CompiledSignal signal, int actionIndex, SignalAction action,
+                         long durationNanos, boolean failed) {
+        ActionMeters meters;
+        if (signal == null) {
+            meters = fallbackAction;
+        } else {
+            PlanMeters current = metersFor(plan);
+            meters = current != null ? current.actions[signal.getOrdinal()][actionIndex] : actionMeters(action.getMethod());
+        }
+        meters.latency.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (failed) {
+            meters.failures.increment();
+        }
+    }
+
+    /**
+     * Records the latency of a signal and counts it if it was not configured.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param signal        The compiled signal, or null if the signal is not configured.
+     * @param signalId      The ID of the trading signal.
+     * @param durationNanos The time the signal took in nanoseconds.
+     * @param failed        Whether handling the signal ended with an exception.
+     */
+    @Override
+    public void onSignal(SignalPlan plan, CompiledSignal signal, int signalId, long durationNanos, boolean failed) {
+        Timer timer;
+        if (signal == null) {
+            fallbacks.increment();
+            timer = unknownSignalTimer;
+        } else {
+            PlanMeters current = metersFor(plan);
+            timer = current != null ? current.signals[signal.getOrdinal()] : signalTimer(Integer.toString(signalId));
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the meters of the given plan, registering them if the plan has just been published.
+     *
+     * @param plan The plan a signal was looked up in.
+     * @return The meters of the plan, or null if the plan has already been replaced.
+     */
+    private PlanMeters metersFor(SignalPlan plan) {
+        PlanMeters current = planMeters;
+        if (current.plan == plan) {
+            return current;
+        }
+        if (signalPlanHolder.current() != plan) {
+            return null;
+        }
+        synchronized (this) {
+            if (planMeters.plan != plan) {
+                planMeters = new PlanMeters(plan);
+            }
+            return planMeters;
+        }
+    }
+
+    /**
+     * Registers or looks up the latency timer of a signal.
+     *
+     * @param signal The value of the signal tag.
+     * @return The timer.
+     */
+    private Timer signalTimer(String signal) {
+        return Timer.builder(SIGNAL_LATENCY)
+                .description("Time to handle a trading signal, including doAlgo")
+                .tag("signal", signal)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+    }
+
+    /**
+     * Registers or looks up the meters of an Algo method.
+     *
+     * @param method The name of the Algo method.
+     * @return The meters of the method.
+     */
+    private ActionMeters actionMeters(String method) {
+        Timer latency = Timer.builder(ACTION_LATENCY)
+                .description("Time to execute a single Algo method of a signal")
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+        Counter failures = Counter.builder(ACTION_FAILURES)
+                .description("Actions that failed because the Algo method could not be found, accessed or completed")
+                .tag("method", method)
+                .register(registry);
+        return new ActionMeters(latency, failures);
+    }
+
+    /**
+     * The latency timer and the failure counter of one Algo method.
+     *
+     * @param latency  The latency timer.
+     * @param failures The failure counter.
+     */
+    private record ActionMeters(Timer latency, Counter failures) {
+    }
+
+    /**
+     * The meters of one plan, indexed by the ordinal of the signal and the index of the action.
+     */
+    private final class PlanMeters {
+
+        private final SignalPlan plan;
+        private final Timer[] signals;
+        private final ActionMeters[][] actions;
+
+        /**
+         * Registers the meters of all signals and actions of the plan.
+         *
+         * @param plan The plan.
+         */
+        PlanMeters(SignalPlan plan) {
+            this.plan = plan;
+            this.signals = new Timer[plan.size()];
+            this.actions = new ActionMeters[plan.size()][];
+            Timer otherSignals = plan.size() > maxSignalTimers ? signalTimer(OTHER_SIGNAL) : null;
+            Map<String, ActionMeters> byMethod = new HashMap<>();
+            plan.forEach(signal -> {
+                int ordinal = signal.getOrdinal();
+                signals[ordinal] = ordinal < maxSignalTimers ? signalTimer(Integer.toString(signal.getId())) : otherSignals;
+                List<SignalAction> signalActions = signal.getActions();
+                actions[ordinal] = new ActionMeters[signalActions.size()];
+                for (int i = 0; i < signalActions.size(); i++) {
+                    actions[ordinal][i] = byMethod.computeIfAbsent(signalActions.get(i).getMethod(),
+                            SignalMetrics.this::actionMeters);
+                }
+            });
+        }
+    }
+}
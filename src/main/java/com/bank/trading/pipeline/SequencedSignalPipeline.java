@@ -0,0 +1,332 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SequencedSignalPipeline serializes all signals through a single consumer thread, which becomes the only thread
+ * that calls the (non thread-safe) Algo. Producers claim a slot of a pre-allocated ring buffer with a single atomic
+ * increment and publish the signal ID into it without taking a lock; the consumer drains every published slot in
+ * sequence order and hands it to the delegate SignalHandler.
+ * <p>
+ * In synchronous mode {@link #handleSignal(int)} returns once the signal has been processed and rethrows any
+ * exception or error it caused, and gives up after {@link #MAX_WAIT}. In asynchronous mode it returns as soon as the
+ * signal has been published, and failures are only logged. Either way the consumer thread survives a failing signal.
+ * <p>
+ * Stopping closes the ring buffer to new signals atomically with the claims of the producers, so every signal that was
+ * claimed before is still processed, and every later one is rejected.
+ */
+@Slf4j
+public class SequencedSignalPipeline implements SignalHandler, SmartLifecycle {
+
+    /**
+     * The lifecycle phase of the pipeline. It is started before and stopped after the stages in front of it, the web
+     * server, which runs in phase {@code DEFAULT_PHASE - 2048}, and the other ingresses, which use the default phase.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 3072;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    /**
+     * The longest time a synchronous caller waits for its signal to be processed.
+     */
+    public static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    /**
+     * The bit set in {@link #claimed} once the pipeline has been stopped and no further slots may be claimed.
+     */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final SignalHandler delegate;
+    private final boolean synchronous;
+    private final String threadName;
+    private final int mask;
+    private final int[] signals;
+    private final Completion[] completions;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(CLOSED);
+
+    /**
+     * The sequence up to which (exclusive) slots have been consumed and may be reused by producers.
+     */
+    private volatile long consumed;
+
+    private volatile boolean consumerWaiting;
+    private volatile boolean running;
+    private Thread consumer;
+
+    /**
+     * Reusable completion of each producer thread, so that waiting for a result does not allocate.
+     */
+    private final ThreadLocal<Completion> completion = ThreadLocal.withInitial(Completion::new);
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param delegate    The SignalHandler that processes the signals on the consumer thread.
+     * @param capacity    The number of slots of the ring buffer, rounded up to a power of two.
+     * @param synchronous Whether {@link #handleSignal(int)} waits until the signal has been processed.
+     */
+    public SequencedSignalPipeline(SignalHandler delegate, int capacity, boolean synchronous) {
+        this(delegate, capacity, synchronous, "signal-pipeline");
+    }
+
+    /**
+     * Creates a new pipeline with a custom name of the consumer thread.
+     *
+     * @param delegate    The SignalHandler that processes the signals on the consumer thread.
+     * @param capacity    The number of slots of the ring buffer, rounded up to a power of two.
+     * @param synchronous Whether {@link #handleSignal(int)} waits until the signal has been processed.
+     * @param threadName  The name of the consumer thread.
+     */
+    public SequencedSignalPipeline(SignalHandler delegate, int capacity, boolean synchronous, String threadName) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.delegate = delegate;
+        this.synchronous = synchronous;
+        this.threadName = threadName;
+        this.mask = size - 1;
+        this.signals = new int[size];
+        this.completions = new Completion[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Publishes the signal to the consumer thread and, in synchronous mode, waits until it has been processed.
+     *
+     * @param signal The ID of the trading signal to be processed.
+     * @throws IllegalStateException If the pipeline is not running, or, in synchronous mode, the signal was not
+     *                               processed within {@link #MAX_WAIT}.
+     */
+    @Override
+    public void handleSignal(int signal) {
+        Completion waiter = synchronous ? completion.get() : null;
+        long sequence = publish(signal, waiter);
+        if (waiter != null) {
+            waiter.await(sequence);
+        }
+    }
+
+    /**
+     * Claims the next slot, waiting for the consumer if the ring buffer is full, and publishes the signal into it.
+     *
+     * @param signal The ID of the trading signal.
+     * @param waiter The completion to be notified, or null in asynchronous mode.
+     * @return The sequence of the signal.
+     * @throws IllegalStateException If the pipeline is not running.
+     */
+    private long publish(int signal, Completion waiter) {
+        long sequence = claim();
+        for (int tries = 0; sequence - signals.length >= consumed; tries++) {
+            backOff(tries);
+        }
+        int index = (int) sequence & mask;
+        signals[index] = signal;
+        completions[index] = waiter;
+        if (waiter != null) {
+            waiter.prepare();
+        }
+        published.set(index, sequence);
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+        return sequence;
+    }
+
+    /**
+     * Claims the next sequence unless the pipeline has been stopped.
+     *
+     * @return The claimed sequence.
+     * @throws IllegalStateException If the pipeline is not running.
+     */
+    private long claim() {
+        while (true) {
+            long sequence = claimed.get();
+            if ((sequence & CLOSED) != 0) {
+                throw new IllegalStateException("Signal pipeline is not running.");
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Drains published slots in sequence order until the pipeline is closed and every claimed slot has been processed.
+     */
+    private void consume() {
+        long next = consumed;
+        int idle = 0;
+        while (true) {
+            int index = (int) next & mask;
+            if (published.get(index) == next) {
+                // Drain the whole run of published slots before releasing them to the producers
+                do {
+                    process(index, next);
+                    next++;
+                    index = (int) next & mask;
+                } while (published.get(index) == next);
+                consumed = next;
+                idle = 0;
+            } else if (claimed.get() == (next | CLOSED)) {
+                return;
+            } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                backOff(idle++);
+            } else {
+                consumerWaiting = true;
+                if (published.get(index) != next && running) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                consumerWaiting = false;
+            }
+        }
+    }
+
+    /**
+     * Processes the signal of one slot and notifies its producer.
+     *
+     * @param index    The index of the slot.
+     * @param sequence The sequence of the signal.
+     */
+    private void process(int index, long sequence) {
+        int signal = signals[index];
+        Completion waiter = completions[index];
+        completions[index] = null;
+        Throwable failure = null;
+        try {
+            delegate.handleSignal(signal);
+        } catch (Throwable t) {
+            // Errors are handed to the caller as well, so that neither the consumer thread nor the caller is lost
+            failure = t;
+            if (waiter == null) {
+                log.error(" Error while processing signal {}, {}", signal, t.toString());
+            }
+        }
+        if (waiter != null) {
+            waiter.complete(sequence, failure);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        // Reopen the ring buffer; all slots claimed before the last stop have been consumed
+        claimed.set(consumed);
+        consumer = new Thread(this::consume, threadName);
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Spins, then yields, then parks briefly, depending on how long the caller has been waiting.
+     *
+     * @param tries The number of unsuccessful tries so far.
+     */
+    private static void backOff(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * The completion of a signal published by one producer thread in synchronous mode.
+     */
+    private static final class Completion {
+
+        private final Thread owner = Thread.currentThread();
+        private volatile long completed = -1;
+        private Throwable failure;
+
+        /**
+         * Resets the completion before the signal is published.
+         */
+        void prepare() {
+            failure = null;
+        }
+
+        /**
+         * Called by the consumer once the signal has been processed.
+         *
+         * @param sequence The sequence of the signal.
+         * @param error    The exception or error thrown while processing the signal, or null.
+         */
+        void complete(long sequence, Throwable error) {
+            failure = error;
+            completed = sequence;
+            LockSupport.unpark(owner);
+        }
+
+        /**
+         * Waits until the signal with the given sequence has been processed, for at most {@link #MAX_WAIT}.
+         *
+         * @param sequence The sequence of the signal.
+         * @throws IllegalStateException If the signal was not processed in time.
+         */
+        void await(long sequence) {
+            long deadline = 0;
+            for (int tries = 0; completed != sequence; tries++) {
+                if (tries < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (tries == SPIN_TRIES) {
+                    deadline = System.nanoTime() + MAX_WAIT.toNanos();
+                } else if (System.nanoTime() - deadline < 0) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                } else {
+                    throw new IllegalStateException("Signal was not processed in time.");
+                }
+            }
+            Throwable error = failure;
+            if (error instanceof RuntimeException e) {
+                throw e;
+            }
+            if (error instanceof Error e) {
+                throw e;
+            }
+            if (error != null) {
+                throw new IllegalStateException(error.getMessage(), error);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalPlanHolder;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+
+/**
+ * ShardedSignalHandler spreads signals over a fixed pool of shards. Every shard owns one Algo, wrapped in its own
+ * SignalProcessor, and a synchronous {@link SequencedSignalPipeline} whose consumer thread is the only thread calling
+ * that Algo, so the shards run in parallel on separate cores.
+ * <p>
+ * A signal is routed by a shard key: the key passed with the signal, otherwise the "shardKey" configured for the
+ * signal, otherwise none. Signals with the same key always run on the same shard, in the order they were submitted.
+ * Signals without a key all run on shard 0, so callers that do not use keys see exactly the behaviour of a single Algo.
+ * <p>
+ * A signal that fails, even with an Error, only fails its own caller; the shard keeps processing the other signals
+ * routed to it.
+ */
+public class ShardedSignalHandler implements SignalHandler, SmartLifecycle {
+
+    /**
+     * The shards take the place of the conflator and the pipeline, so they share the phase of the conflator: they are
+     * stopped after the web server and the other ingresses, and before the journal.
+     */
+    public static final int PHASE = SignalConflator.PHASE;
+
+    private final SignalPlanHolder signalPlanHolder;
+    private final SequencedSignalPipeline[] shards;
+
+    /**
+     * Creates a new sharded handler.
+     *
+     * @param signalPlanHolder The holder of the active plan, which provides the configured shard keys.
+     * @param shardHandlers    The SignalHandler of every shard, each working on its own Algo.
+     * @param capacity         The number of slots of the ring buffer of each shard.
+     */
+    public ShardedSignalHandler(SignalPlanHolder signalPlanHolder, List<? extends SignalHandler> shardHandlers,
+                                int capacity) {
+        if (shardHandlers.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required.");
+        }
+        this.signalPlanHolder = signalPlanHolder;
+        this.shards = new SequencedSignalPipeline[shardHandlers.size()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new SequencedSignalPipeline(shardHandlers.get(i), capacity, true, "signal-shard-" + i);
+        }
+    }
+
+    /**
+     * Processes the signal on the shard of its configured shard key, or on shard 0 if it has none, and waits until it
+     * has been processed.
+     *
+     * @param signal The ID of the trading signal to be processed.
+     */
+    @Override
+    public void handleSignal(int signal) {
+        CompiledSignal compiled = signalPlanHolder.current().lookup(signal);
+        String shardKey = compiled != null ? compiled.getShardKey() : null;
+        shards[shardKey != null ? shardOf(shardKey) : 0].handleSignal(signal);
+    }
+
+    /**
+     * Processes the signal on the shard of the given key and waits until it has been processed.
+     *
+     * @param signal   The ID of the trading signal to be processed.
+     * @param shardKey The shard key, overriding the configured one.
+     */
+    public void handleSignal(int signal, String shardKey) {
+        shards[shardOf(shardKey)].handleSignal(signal);
+    }
+
+    /**
+     * Returns the shard a key is routed to.
+     *
+     * @param shardKey The shard key.
+     * @return The index of the shard.
+     */
+    public int shardOf(String shardKey) {
+        int h = shardKey.hashCode() * 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), shards.length);
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return The number of Algo instances.
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void start() {
+        for (SequencedSignalPipeline shard : shards) {
+            shard.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        for (SequencedSignalPipeline shard : shards) {
+            shard.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return shards[0].isRunning();
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,301 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.exception.SignalRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SignalAdmissionController is the outermost dispatch stage. It limits the number of signals that are processed at
+ * the same time and, optionally, the rate at which signals are accepted, and sheds signals quickly instead of letting
+ * them pile up when the system is saturated.
+ * <p>
+ * The limits only apply to signals of priority {@link CompiledSignal.Priority#NORMAL}. A signal takes a permit if one
+ * is free; otherwise it waits in a fair queue of at most {@code queueCapacity} signals for at most {@code maxWait}.
+ * A free permit is only taken if no other signal is queued for one, so new signals never overtake waiting ones.
+ * Signals that find the queue full, wait too long or exceed the rate are rejected with a
+ * {@link SignalRejectedException}; a signal shed for the queue does not count against the rate.
+ * <p>
+ * Signals of priority {@link CompiledSignal.Priority#CRITICAL} and signals that are not configured, which cancel all
+ * trades, bypass the queue and the limits and are handed to the next stage at once. They have no priority there: the
+ * conflator, the pipeline and the shards process signals in arrival order, so a bypassing signal still waits for every
+ * signal handed to them before it. With a synchronous next stage these are at most {@code maxConcurrency} admitted
+ * signals plus the other bypassing signals; the asynchronous pipeline releases a permit once its signal is enqueued,
+ * so there it can be as many signals as its ring buffer holds.
+ * <p>
+ * The queue depth, the signals in progress and the shed and bypassing signals are published as Micrometer meters.
+ */
+public class SignalAdmissionController implements SignalHandler, MeterBinder {
+
+    public static final String QUEUE_DEPTH = "trading.admission.queue.depth";
+    public static final String IN_FLIGHT = "trading.admission.in.flight";
+    public static final String SHED = "trading.admission.shed";
+    public static final String BYPASSED = "trading.admission.bypassed";
+
+    /**
+     * The reason why a signal was shed.
+     */
+    public enum ShedReason {
+        /**
+         * The queue of waiting signals was full.
+         */
+        QUEUE_FULL("Too many signals in progress, try again later."),
+        /**
+         * The signal waited longer than the maximum wait time.
+         */
+        TIMEOUT("Signal was not admitted in time, try again later."),
+        /**
+         * The signal exceeded the configured rate.
+         */
+        RATE_LIMIT("Signal rate exceeded, try again later.");
+
+        private final SignalRejectedException exception;
+
+        ShedReason(String message) {
+            this.exception = new SignalRejectedException(message);
+        }
+    }
+
+    private final SignalHandler next;
+    private final SignalPlanHolder signalPlanHolder;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder[] shed = new LongAdder[ShedReason.values().length];
+    private final LongAdder bypassed = new LongAdder();
+
+    /**
+     * The interval between two signals at the configured rate, or 0 if the rate is not limited.
+     */
+    private final long rateIntervalNanos;
+
+    /**
+     * The time by which a signal may arrive earlier than the rate allows, which permits bursts.
+     */
+    private final long burstToleranceNanos;
+
+    /**
+     * The theoretical arrival time of the next signal at the configured rate.
+     */
+    private final AtomicLong nextArrival = new AtomicLong(System.nanoTime());
+
+    /**
+     * Creates a new admission control stage.
+     *
+     * @param next             The next stage, which processes the admitted signals.
+     * @param signalPlanHolder The holder of the active plan, in which the priorities of the signals are looked up.
+     * @param maxConcurrency   The maximum number of normal signals processed at the same time.
+     * @param queueCapacity    The maximum number of normal signals waiting for a permit.
+     * @param maxWait          The maximum time a normal signal waits for a permit.
+     * @param rate             The maximum number of normal signals accepted per second, or 0 for no limit.
+     * @param burst            The number of normal signals that may be accepted at once above the rate.
+     */
+    public SignalAdmissionController(SignalHandler next, SignalPlanHolder signalPlanHolder, int maxConcurrency,
+                                     int queueCapacity, Duration maxWait, double rate, int burst) {
+        if (maxConcurrency < 1 || queueCapacity < 0 || rate < 0) {
+            throw new IllegalArgumentException("Invalid admission limits.");
+        }
+        this.next = next;
+        this.signalPlanHolder = signalPlanHolder;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.rateIntervalNanos = rate > 0 ? Math.max(1, (long) (1_000_000_000L / rate)) : 0;
+        this.burstToleranceNanos = rateIntervalNanos * Math.max(0, burst - 1);
+        for (int i = 0; i < shed.length; i++) {
+            shed[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Admits the signal and hands it to the next stage.
+     *
+     * @param signal The ID of the trading signal to be processed.
+     * @throws SignalRejectedException If the signal is shed.
+     */
+    @Override
+    public void handleSignal(int signal) {
+        handleSignal(signal, next);
+    }
+
+    /**
+     * Admits the signal and hands it to the given handler, e.g. one that routes it by a shard key.
+     *
+     * @param signal  The ID of the trading signal to be processed.
+     * @param handler The handler that processes the admitted signal.
+     * @throws SignalRejectedException If the signal is shed.
+     */
+    public void handleSignal(int signal, SignalHandler handler) {
+        if (priorityOf(signal) == CompiledSignal.Priority.CRITICAL) {
+            bypassed.increment();
+            handler.handleSignal(signal);
+            return;
+        }
+        admit();
+        try {
+            handler.handleSignal(signal);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns the priority of a signal in the active plan.
+     *
+     * @param signal The ID of the trading signal.
+     * @return The configured priority, or CRITICAL if the signal is not configured.
+     */
+    private CompiledSignal.Priority priorityOf(int signal) {
+        CompiledSignal compiled = signalPlanHolder.current().lookup(signal);
+        return compiled != null ? compiled.getPriority() : CompiledSignal.Priority.CRITICAL;
+    }
+
+    /**
+     * Takes a permit for a normal signal, waiting in the queue if all permits are taken.
+     *
+     * @throws SignalRejectedException If the signal exceeds the rate, the queue is full or no permit becomes free in
+     *                                 time.
+     */
+    private void admit() {
+        if (rateIntervalNanos > 0 && !acquireRate()) {
+            throw shed(ShedReason.RATE_LIMIT);
+        }
+        ShedReason reason = acquirePermit();
+        if (reason != null) {
+            if (rateIntervalNanos > 0) {
+                // The signal is not processed, so its interval is returned to the rate
+                nextArrival.addAndGet(-rateIntervalNanos);
+            }
+            throw shed(reason);
+        }
+    }
+
+    /**
+     * Takes a permit, waiting in the queue if all permits are taken or other signals are already queued.
+     *
+     * @return Null if a permit has been taken, otherwise the reason why the signal is shed.
+     */
+    private ShedReason acquirePermit() {
+        try {
+            // Unlike tryAcquire(), a timed tryAcquire honors the fairness of the semaphore and does not barge
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+            if (waiting.incrementAndGet() > queueCapacity) {
+                waiting.decrementAndGet();
+                return ShedReason.QUEUE_FULL;
+            }
+            try {
+                return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS) ? null : ShedReason.TIMEOUT;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ShedReason.TIMEOUT;
+        }
+    }
+
+    /**
+     * Checks the signal against the configured rate, following the generic cell rate algorithm: every accepted
+     * signal moves the theoretical arrival time of the next one forward by one interval, and a signal is accepted
+     * unless it arrives more than the burst tolerance before its theoretical arrival time.
+     *
+     * @return True if the signal is within the rate.
+     */
+    private boolean acquireRate() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = nextArrival.get();
+            long base = arrival - now > 0 ? arrival : now;
+            if (base - now > burstToleranceNanos) {
+                return false;
+            }
+            if (nextArrival.compareAndSet(arrival, base + rateIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Counts a shed signal.
+     *
+     * @param reason The reason why the signal was shed.
+     * @return The exception to throw.
+     */
+    private SignalRejectedException shed(ShedReason reason) {
+        shed[reason.ordinal()].increment();
+        return reason.exception;
+    }
+
+    /**
+     * Returns the number of normal signals waiting for a permit.
+     *
+     * @return The current queue depth.
+     */
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    /**
+     * Returns the number of normal signals being processed.
+     *
+     * @return The number of taken permits.
+     */
+    public int getInFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of signals shed for the given reason.
+     *
+     * @param reason The reason.
+     * @return The number of shed signals.
+     */
+    public long getShedCount(ShedReason reason) {
+        return shed[reason.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of critical and unknown signals that bypassed the limits.
+     *
+     * @return The number of bypassing signals.
+     */
+    public long getBypassedCount() {
+        return bypassed.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH, this, SignalAdmissionController::getQueueDepth)
+                .description("Normal signals waiting for admission")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT, this, SignalAdmissionController::getInFlight)
+                .description("Normal signals admitted and in progress")
+                .register(registry);
+        for (ShedReason reason : ShedReason.values()) {
+            FunctionCounter.builder(SHED, this, controller -> controller.getShedCount(reason))
+                    .description("Signals rejected by the admission control")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        FunctionCounter.builder(BYPASSED, this, SignalAdmissionController::getBypassedCount)
+                .description("Critical and unknown signals that bypassed the admission limits")
+                .register(registry);
+    }
+}
@@ -0,0 +1,228 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SignalConflator collapses bursts of the same signal into a single execution. Signals are queued in arrival order
+ * and handed to the delegate SignalHandler by a single dispatcher thread. A signal that arrives while the last queued
+ * signal has the same ID and has not started yet joins it instead of being queued again, and every caller of the
+ * collapsed signal receives the same result: they all return once it has been processed, or all see the same
+ * exception.
+ * <p>
+ * Only the last queued signal can be joined, so signals with different IDs are always executed in the order in which
+ * they were received. A queued signal waits for duplicates until its window has passed, or until a signal with a
+ * different ID is queued behind it, whichever comes first.
+ * <p>
+ * The dispatcher thread survives failing signals, including Errors, which are rethrown to every caller of the signal.
+ */
+public class SignalConflator implements SignalHandler, SmartLifecycle {
+
+    /**
+     * The conflator is started after and stopped before the pipeline, so that the signals it still holds when it is
+     * stopped are drained into a running pipeline, but stopped after the web server and the other ingresses.
+     */
+    public static final int PHASE = SequencedSignalPipeline.PHASE + 512;
+
+    private final SignalHandler delegate;
+    private final long defaultWindowNanos;
+    private final int[] windowIds;
+    private final long[] windowNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final ArrayDeque<Batch> queue = new ArrayDeque<>();
+    private final LongAdder conflated = new LongAdder();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    /**
+     * Creates a new conflator.
+     *
+     * @param delegate      The SignalHandler that processes the conflated signals on the dispatcher thread.
+     * @param defaultWindow How long a signal waits for duplicates, unless configured otherwise for its ID.
+     * @param windows       The windows of individual signal IDs.
+     */
+    public SignalConflator(SignalHandler delegate, Duration defaultWindow, Map<Integer, Duration> windows) {
+        this.delegate = delegate;
+        this.defaultWindowNanos = defaultWindow.toNanos();
+        this.windowIds = windows.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        this.windowNanos = Arrays.stream(windowIds).mapToLong(id -> windows.get(id).toNanos()).toArray();
+    }
+
+    /**
+     * Queues the signal, or joins the pending execution of the same signal, and waits until it has been processed.
+     *
+     * @param signal The ID of the trading signal to be processed.
+     */
+    @Override
+    public void handleSignal(int signal) {
+        Batch batch;
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Signal conflator is not running.");
+            }
+            Batch last = queue.peekLast();
+            if (last != null && last.signal == signal) {
+                batch = last;
+                conflated.increment();
+            } else {
+                batch = new Batch(signal, System.nanoTime() + window(signal));
+                queue.addLast(batch);
+                pending.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            batch.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * Returns the number of signals that were collapsed into an already queued signal.
+     *
+     * @return The number of signals that did not cause an execution of their own.
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    /**
+     * Returns the conflation window of a signal.
+     *
+     * @param signal The ID of the trading signal.
+     * @return The window in nanoseconds.
+     */
+    private long window(int signal) {
+        int index = Arrays.binarySearch(windowIds, signal);
+        return index >= 0 ? windowNanos[index] : defaultWindowNanos;
+    }
+
+    /**
+     * Executes queued signals in order until the conflator is stopped and the queue is empty.
+     */
+    private void dispatch() {
+        Batch batch;
+        while ((batch = next()) != null) {
+            try {
+                delegate.handleSignal(batch.signal);
+                batch.result.complete(null);
+            } catch (Throwable t) {
+                // Errors fail the callers as well instead of ending the dispatcher thread, which would strand them
+                batch.result.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Waits for the next signal that can no longer be joined and removes it from the queue.
+     *
+     * @return The signal to be executed, or null if the conflator has been stopped and the queue is empty.
+     */
+    private Batch next() {
+        lock.lock();
+        try {
+            while (true) {
+                Batch first = queue.peekFirst();
+                if (first == null) {
+                    if (!running) {
+                        return null;
+                    }
+                    pending.awaitUninterruptibly();
+                    continue;
+                }
+                long remaining = first.deadline - System.nanoTime();
+                if (remaining <= 0 || queue.size() > 1 || !running) {
+                    return queue.pollFirst();
+                }
+                try {
+                    pending.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    // Stop waiting for duplicates, the signal is executed right away
+                    return queue.pollFirst();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatch, "signal-conflator");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        lock.lock();
+        try {
+            running = false;
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * A queued signal together with the result shared by all its callers.
+     */
+    private static final class Batch {
+
+        private final int signal;
+        private final long deadline;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        /**
+         * Creates a new batch.
+         *
+         * @param signal   The ID of the trading signal.
+         * @param deadline The value of {@link System#nanoTime()} after which no more duplicates are awaited.
+         */
+        Batch(int signal, long deadline) {
+            this.signal = signal;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bank.trading.replay;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CsvSignalCapture reads a capture with one "timestampNanos,signalId" line per signal, where the timestamp is the
+ * receive time in nanoseconds since the epoch. Empty lines, lines starting with "#" and a header line starting with
+ * "timestamp" are skipped.
+ */
+public class CsvSignalCapture implements SignalCapture {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private long timestampNanos;
+    private int signalId;
+
+    /**
+     * Opens a CSV capture.
+     *
+     * @param file The capture file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public CsvSignalCapture(Path file) throws IOException {
+        this.reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#") || line.startsWith("timestamp")) {
+                continue;
+            }
+            int comma = line.indexOf(',');
+            try {
+                timestampNanos = Long.parseLong(line, 0, comma, 10);
+                signalId = Integer.parseInt(line, comma + 1, line.length(), 10);
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IOException("Malformed capture line " + lineNumber + ": " + line);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
+    @Override
+    public int signalId() {
+        return signalId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
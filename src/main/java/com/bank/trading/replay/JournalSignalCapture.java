@@ -0,0 +1,53 @@
+package com.bank.trading.replay;
+
+import com.bank.trading.journal.JournalRecord;
+import com.bank.trading.journal.SignalJournalReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * JournalSignalCapture replays the signals recorded by the SignalJournal. Only signal records are used; action records
+ * are skipped. Signals are replayed in journal order, which is the order in which they completed.
+ */
+public class JournalSignalCapture implements SignalCapture {
+
+    private final SignalJournalReader reader;
+    private JournalRecord current;
+
+    /**
+     * Opens the journal in the given directory.
+     *
+     * @param directory The journal directory.
+     * @throws IOException If the directory cannot be listed.
+     */
+    public JournalSignalCapture(Path directory) throws IOException {
+        this.reader = SignalJournalReader.open(directory);
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        for (JournalRecord record = reader.next(); record != null; record = reader.next()) {
+            if (record.isSignal()) {
+                current = record;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long timestampNanos() {
+        return current.timestamp();
+    }
+
+    @Override
+    public int signalId() {
+        return current.signalId();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
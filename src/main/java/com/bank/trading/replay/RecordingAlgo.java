@@ -0,0 +1,135 @@
+package com.bank.trading.replay;
+
+import com.bank.trading.algo.stubs.Algo;
+
+import java.util.Arrays;
+
+/**
+ * RecordingAlgo is an Algo that records the calls it receives instead of trading. Calls are stored as compact integer
+ * codes, so that recording does not distort the measured latencies, and can be compared with the calls recorded by
+ * another instance.
+ */
+public class RecordingAlgo extends Algo {
+
+    private static final String[] METHODS = {"doAlgo", "cancelTrades", "reverse", "submitToMarket", "performCalc",
+            "setUp", "setAlgoParam"};
+    private static final int DO_ALGO = 0;
+    private static final int CANCEL_TRADES = 1;
+    private static final int REVERSE = 2;
+    private static final int SUBMIT_TO_MARKET = 3;
+    private static final int PERFORM_CALC = 4;
+    private static final int SET_UP = 5;
+    private static final int SET_ALGO_PARAM = 6;
+
+    private int[] calls = new int[64];
+    private int length;
+    private long totalCalls;
+
+    @Override
+    public void doAlgo() {
+        record(DO_ALGO);
+    }
+
+    @Override
+    public void cancelTrades() {
+        record(CANCEL_TRADES);
+    }
+
+    @Override
+    public void reverse() {
+        record(REVERSE);
+    }
+
+    @Override
+    public void submitToMarket() {
+        record(SUBMIT_TO_MARKET);
+    }
+
+    @Override
+    public void performCalc() {
+        record(PERFORM_CALC);
+    }
+
+    @Override
+    public void setUp() {
+        record(SET_UP);
+    }
+
+    @Override
+    public void setAlgoParam(int param, int value) {
+        ensureCapacity(3);
+        calls[length++] = SET_ALGO_PARAM;
+        calls[length++] = param;
+        calls[length++] = value;
+        totalCalls++;
+    }
+
+    /**
+     * Forgets the calls recorded so far, typically before the next signal is handled.
+     */
+    public void reset() {
+        length = 0;
+    }
+
+    /**
+     * Checks whether this instance recorded the same calls, with the same arguments and in the same order, as another
+     * one since they were last reset.
+     *
+     * @param other The other recording.
+     * @return True if both recordings are equal.
+     */
+    public boolean sameCalls(RecordingAlgo other) {
+        return Arrays.equals(calls, 0, length, other.calls, 0, other.length);
+    }
+
+    /**
+     * Returns the number of calls recorded since this instance was created.
+     *
+     * @return The total number of calls.
+     */
+    public long getTotalCalls() {
+        return totalCalls;
+    }
+
+    /**
+     * Describes the calls recorded since the last reset.
+     *
+     * @return The calls, e.g. "[setUp, setAlgoParam(1,60), doAlgo]".
+     */
+    public String describeCalls() {
+        StringBuilder description = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            if (description.length() > 1) {
+                description.append(", ");
+            }
+            int method = calls[i];
+            description.append(METHODS[method]);
+            if (method == SET_ALGO_PARAM) {
+                description.append('(').append(calls[++i]).append(',').append(calls[++i]).append(')');
+            }
+        }
+        return description.append(']').toString();
+    }
+
+    /**
+     * Records a call without arguments.
+     *
+     * @param method The code of the method.
+     */
+    private void record(int method) {
+        ensureCapacity(1);
+        calls[length++] = method;
+        totalCalls++;
+    }
+
+    /**
+     * Grows the call buffer if it cannot hold the given number of additional codes.
+     *
+     * @param codes The number of codes to be added.
+     */
+    private void ensureCapacity(int codes) {
+        if (length + codes > calls.length) {
+            calls = Arrays.copyOf(calls, calls.length * 2);
+        }
+    }
+}
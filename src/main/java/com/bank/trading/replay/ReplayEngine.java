@@ -0,0 +1,156 @@
+package com.bank.trading.replay;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ReplayEngine drives a SignalHandler from a recorded signal stream and measures how it performs.
+ * <p>
+ * The handler under test works on a {@link RecordingAlgo}. If a baseline handler is given, every signal is also handled
+ * by the baseline, and the Algo calls of both are compared signal by signal; this shows the effect of a configuration
+ * change or an optimization on the calls that reach the Algo. The baseline runs on the same thread right after the
+ * handler under test, and its time is excluded from the elapsed time and from the schedule of the replay.
+ */
+public class ReplayEngine {
+
+    private static final int MAX_DIVERGENCES = 10;
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final long SPIN_THRESHOLD = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final SignalHandler handler;
+    private final RecordingAlgo algo;
+    private final SignalHandler baseline;
+    private final RecordingAlgo baselineAlgo;
+
+    /**
+     * Creates an engine without a baseline.
+     *
+     * @param handler The SignalHandler under test.
+     * @param algo    The Algo the handler works on.
+     */
+    public ReplayEngine(SignalHandler handler, RecordingAlgo algo) {
+        this(handler, algo, null, null);
+    }
+
+    /**
+     * Creates an engine that compares the Algo calls of the handler under test with those of a baseline.
+     *
+     * @param handler      The SignalHandler under test.
+     * @param algo         The Algo the handler works on.
+     * @param baseline     The baseline SignalHandler, or null.
+     * @param baselineAlgo The Algo the baseline works on, or null.
+     */
+    public ReplayEngine(SignalHandler handler, RecordingAlgo algo, SignalHandler baseline, RecordingAlgo baselineAlgo) {
+        this.handler = handler;
+        this.algo = algo;
+        this.baseline = baseline;
+        this.baselineAlgo = baselineAlgo;
+    }
+
+    /**
+     * Replays every signal of the capture.
+     *
+     * @param capture The recorded signals.
+     * @param mode    The pacing of the replay.
+     * @return The report of the replay.
+     * @throws IOException If the capture cannot be read.
+     */
+    public ReplayReport replay(SignalCapture capture, ReplayMode mode) throws IOException {
+        Histogram latencies = new Histogram(HIGHEST_LATENCY, 3);
+        List<ReplayReport.Divergence> divergences = new ArrayList<>();
+        long signals = 0;
+        long failed = 0;
+        long divergent = 0;
+        long firstTimestamp = 0;
+        long start = System.nanoTime();
+        long excluded = 0;
+
+        while (capture.next()) {
+            int signalId = capture.signalId();
+            long due;
+            if (mode == ReplayMode.ORIGINAL_TIMING) {
+                if (signals == 0) {
+                    firstTimestamp = capture.timestampNanos();
+                }
+                due = start + excluded + (capture.timestampNanos() - firstTimestamp);
+                waitUntil(due);
+            } else {
+                due = System.nanoTime();
+            }
+
+            algo.reset();
+            boolean success = handle(handler, signalId);
+            long done = System.nanoTime();
+            latencies.recordValue(Math.min(Math.max(done - due, 0), HIGHEST_LATENCY));
+            if (!success) {
+                failed++;
+            }
+
+            if (baseline != null) {
+                baselineAlgo.reset();
+                boolean baselineSuccess = handle(baseline, signalId);
+                if (success != baselineSuccess || !algo.sameCalls(baselineAlgo)) {
+                    if (divergences.size() < MAX_DIVERGENCES) {
+                        divergences.add(new ReplayReport.Divergence(signals, signalId,
+                                describe(baselineAlgo, baselineSuccess), describe(algo, success)));
+                    }
+                    divergent++;
+                }
+                excluded += System.nanoTime() - done;
+            }
+            signals++;
+        }
+
+        return new ReplayReport(signals, failed, baseline != null ? divergent : -1,
+                System.nanoTime() - start - excluded, latencies, divergences);
+    }
+
+    /**
+     * Handles a signal and reports whether it succeeded.
+     *
+     * @param signalHandler The SignalHandler.
+     * @param signalId      The ID of the trading signal.
+     * @return False if handling the signal ended with an exception.
+     */
+    private static boolean handle(SignalHandler signalHandler, int signalId) {
+        try {
+            signalHandler.handleSignal(signalId);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Describes the calls of a signal for a divergence report.
+     *
+     * @param recording The Algo that recorded the calls.
+     * @param success   Whether the signal succeeded.
+     * @return The description.
+     */
+    private static String describe(RecordingAlgo recording, boolean success) {
+        return success ? recording.describeCalls() : recording.describeCalls() + " (failed)";
+    }
+
+    /**
+     * Waits until the given time, parking while it is far away and spinning for the last microseconds.
+     *
+     * @param due The value of {@link System#nanoTime()} to wait for.
+     */
+    private static void waitUntil(long due) {
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.trading.replay;
+
+/**
+ * The pacing of a replay.
+ */
+public enum ReplayMode {
+    /**
+     * Signals are submitted with the same spacing as they were received. Latencies are measured from the time a
+     * signal was due, so a replay that falls behind reports the queueing delay as well.
+     */
+    ORIGINAL_TIMING,
+    /**
+     * Signals are submitted back to back, as fast as the handler processes them.
+     */
+    MAX_SPEED
+}
@@ -0,0 +1,76 @@
+package com.bank.trading.replay;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a replay.
+ *
+ * @param signals      The number of replayed signals.
+ * @param failed       The number of signals whose handling ended with an exception.
+ * @param divergent    The number of signals for which the Algo calls differed from the baseline, or -1 if the replay
+ *                     had no baseline.
+ * @param elapsedNanos The time the replay took, excluding the time spent in the baseline.
+ * @param latencies    The latency distribution of the replayed signals in nanoseconds.
+ * @param divergences  The first divergent signals.
+ */
+public record ReplayReport(long signals, long failed, long divergent, long elapsedNanos, Histogram latencies,
+                           List<Divergence> divergences) {
+
+    /**
+     * Returns the number of signals handled per second.
+     *
+     * @return The throughput of the replay.
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : signals * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @return The multi-line report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("signals:      %d (%d failed)%n", signals, failed));
+        report.append(String.format("elapsed:      %.3f s%n", elapsedNanos / 1e9));
+        report.append(String.format("throughput:   %.0f signals/s%n", throughput()));
+        report.append(String.format("latency (us): p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                percentile(50), percentile(90), percentile(99), percentile(99.9), latencies.getMaxValue() / 1e3));
+        if (divergent >= 0) {
+            report.append(String.format("divergent:    %d signals%n", divergent));
+            divergences.forEach(divergence -> report.append("  ").append(divergence).append(System.lineSeparator()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns a latency percentile in microseconds.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The latency in microseconds.
+     */
+    private double percentile(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1e3;
+    }
+
+    /**
+     * A signal for which the replayed Algo calls differ from the baseline.
+     *
+     * @param index    The position of the signal in the capture, starting at 0.
+     * @param signalId The ID of the trading signal.
+     * @param expected The calls of the baseline.
+     * @param actual   The calls of the replay.
+     */
+    public record Divergence(long index, int signalId, String expected, String actual) {
+
+        @Override
+        public String toString() {
+            return "#" + index + " signal " + signalId + ": expected " + expected + ", actual " + actual;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.trading.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * SignalCapture is a cursor over a recorded stream of trading signals. Captures are read sequentially and never held
+ * in memory as a whole.
+ */
+public interface SignalCapture extends Closeable {
+
+    /**
+     * Advances to the next captured signal.
+     *
+     * @return False if the end of the capture has been reached.
+     * @throws IOException If the capture cannot be read or is malformed.
+     */
+    boolean next() throws IOException;
+
+    /**
+     * Returns the time at which the current signal was received.
+     *
+     * @return The time in nanoseconds since the epoch.
+     */
+    long timestampNanos();
+
+    /**
+     * Returns the ID of the current signal.
+     *
+     * @return The ID of the trading signal.
+     */
+    int signalId();
+}
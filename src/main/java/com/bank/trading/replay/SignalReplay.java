@@ -0,0 +1,151 @@
+package com.bank.trading.replay;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.config.SignalConfigLoader;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.TradingProperties;
+import com.bank.trading.config.TradingProperties.ExecutionMode;
+import com.bank.trading.service.SignalProcessor;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SignalReplay is the command line entry point of the offline replay. It replays a capture through a SignalProcessor
+ * working on a {@link RecordingAlgo} and prints a {@link ReplayReport}:
+ * <pre>
+ * --capture=&lt;file.csv | journal directory&gt;   the recorded signals (required)
+ * --config=&lt;location&gt;                         the signal configuration under test (required)
+ * --baseline-config=&lt;location&gt;                a configuration to compare the Algo calls with
+ * --mode=max-speed | original-timing           the pacing of the replay, max-speed by default
+ * --execution=reflective | compiled            the execution mode of the signal plans, reflective by default
+ * </pre>
+ * Configuration locations without a prefix are files. The process exits with status 1 if any signal diverged from
+ * the baseline.
+ */
+public final class SignalReplay {
+
+    private SignalReplay() {
+    }
+
+    /**
+     * Runs a replay and prints its report.
+     *
+     * @param args The command line options.
+     * @throws IOException If the capture or a configuration cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        // Failed signals are counted in the report, one log line per signal would only slow the replay down
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        ((Logger) LoggerFactory.getLogger(SignalProcessor.class)).setLevel(Level.OFF);
+
+        ReplayReport report = run(parse(args));
+        System.out.print(report);
+        if (report.divergent() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs a replay.
+     *
+     * @param options The options, keyed by their name without the leading dashes.
+     * @return The report of the replay.
+     * @throws IOException If the capture or a configuration cannot be read.
+     */
+    static ReplayReport run(Map<String, String> options) throws IOException {
+        String capturePath = required(options, "capture");
+        ExecutionMode execution = ExecutionMode.valueOf(option(options, "execution", "reflective"));
+        ReplayMode mode = ReplayMode.valueOf(option(options, "mode", "max-speed"));
+
+        RecordingAlgo algo = new RecordingAlgo();
+        SignalProcessor processor = processor(required(options, "config"), execution, algo);
+        ReplayEngine engine;
+        if (options.containsKey("baseline-config")) {
+            RecordingAlgo baselineAlgo = new RecordingAlgo();
+            engine = new ReplayEngine(processor, algo, processor(options.get("baseline-config"), execution,
+                    baselineAlgo), baselineAlgo);
+        } else {
+            engine = new ReplayEngine(processor, algo);
+        }
+
+        Path capture = Path.of(capturePath);
+        try (SignalCapture signals = Files.isDirectory(capture)
+                ? new JournalSignalCapture(capture) : new CsvSignalCapture(capture)) {
+            return engine.replay(signals, mode);
+        }
+    }
+
+    /**
+     * Creates a SignalProcessor for a signal configuration.
+     *
+     * @param location  The location of the configuration.
+     * @param execution The execution mode of the plan.
+     * @param algo      The Algo the processor works on.
+     * @return The processor.
+     * @throws IOException If the configuration cannot be read.
+     */
+    private static SignalProcessor processor(String location, ExecutionMode execution, RecordingAlgo algo)
+            throws IOException {
+        TradingProperties properties = new TradingProperties();
+        properties.getConfig().setLocation(location.contains(":") && !Path.of(location).isAbsolute()
+                ? location : "file:" + location);
+        properties.getExecution().setMode(execution);
+        SignalPlan plan = new SignalConfigLoader(new DefaultResourceLoader(), properties).load();
+        return new SignalProcessor(algo, new SignalPlanHolder(plan), new AlgoMethodInvoker());
+    }
+
+    /**
+     * Parses "--name=value" options.
+     *
+     * @param args The command line arguments.
+     * @return The options, keyed by their name.
+     */
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Returns an enum option in constant form, e.g. "max-speed" as "MAX_SPEED".
+     *
+     * @param options      The options.
+     * @param name         The name of the option.
+     * @param defaultValue The value if the option is absent.
+     * @return The constant name.
+     */
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue).replace('-', '_').toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a required option.
+     *
+     * @param options The options.
+     * @param name    The name of the option.
+     * @return The value.
+     */
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing option --" + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bank.trading.service;
+
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalActionOptimizer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AlgoStateShadow keeps a shadow of the parameters a SignalProcessor has set on its Algo, so that {@code setAlgoParam}
+ * calls that would not change a parameter are not made. A parameter is known once it has been set successfully; it is
+ * unknown again while it is being set, if setting it fails, and after one of the configured reset methods has been
+ * called. Only {@code setAlgoParam} and the reset methods are assumed to change the parameters.
+ * <p>
+ * A shadow belongs to exactly one Algo, and all calls that change its parameters have to go through
+ * {@link #execute(SignalAction, Invocation)}. They are made while holding the lock of the shadow, so the shadow always
+ * matches the Algo when signals are processed concurrently; other calls are not serialized.
+ */
+public class AlgoStateShadow {
+
+    /**
+     * Marks a parameter whose value is not known.
+     */
+    private static final Object UNKNOWN = new Object();
+
+    private final Set<String> resetMethods;
+
+    /**
+     * The known parameters by key. Keys are never removed, so setting a known key does not allocate.
+     */
+    private final Map<Object, Object> parameters = new HashMap<>();
+
+    private long elidedCount;
+
+    /**
+     * A call to the Algo.
+     */
+    @FunctionalInterface
+    public interface Invocation {
+
+        /**
+         * Calls the Algo method of an action.
+         *
+         * @param action The action.
+         * @throws ReflectiveOperationException If the call fails.
+         */
+        void invoke(SignalAction action) throws ReflectiveOperationException;
+    }
+
+    /**
+     * Creates a new shadow with all parameters unknown.
+     *
+     * @param resetMethods The names of the Algo methods that reset the parameters.
+     */
+    public AlgoStateShadow(Collection<String> resetMethods) {
+        this.resetMethods = Set.copyOf(resetMethods);
+    }
+
+    /**
+     * Calls the Algo method of an action, unless it sets a parameter to its known value.
+     *
+     * @param action     The resolved action.
+     * @param invocation The call to the Algo.
+     * @return False if the call was elided.
+     * @throws ReflectiveOperationException If the call fails.
+     */
+    public boolean execute(SignalAction action, Invocation invocation) throws ReflectiveOperationException {
+        if (SignalActionOptimizer.isParamWrite(action)) {
+            Object key = action.getArguments()[0];
+            Object value = action.getArguments()[1];
+            synchronized (this) {
+                if (value.equals(parameters.get(key))) {
+                    elidedCount++;
+                    return false;
+                }
+                parameters.put(key, UNKNOWN);
+                invocation.invoke(action);
+                parameters.put(key, value);
+            }
+            return true;
+        }
+        if (resetMethods.contains(action.getMethod())) {
+            synchronized (this) {
+                parameters.replaceAll((key, value) -> UNKNOWN);
+                invocation.invoke(action);
+            }
+            return true;
+        }
+        invocation.invoke(action);
+        return true;
+    }
+
+    /**
+     * Returns the number of calls that were elided.
+     *
+     * @return The number of elided setAlgoParam calls.
+     */
+    public synchronized long getElidedCount() {
+        return elidedCount;
+    }
+}
@@ -0,0 +1,140 @@
+package com.bank.trading.service;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.dto.BatchSignalResponse;
+import com.bank.trading.dto.SignalResult;
+import com.bank.trading.dto.SignalStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SignalBatchProcessor runs batches of signal IDs through the SignalHandler in the order in which they are received.
+ * Request bodies are read with a streaming parser, so a batch is never buffered as a whole; a failing signal is
+ * reported in its result and does not stop the rest of the batch. Neither does an item that is not a signal ID: it is
+ * reported as {@link SignalStatus#INVALID}, so the client always learns which of its signals were executed.
+ */
+@Service
+@Slf4j
+public class SignalBatchProcessor {
+
+    private final SignalHandler signalHandler;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes streamed results without flushing after every value, flushing is decided per burst instead.
+     */
+    private final ObjectWriter resultWriter;
+
+    /**
+     * Creates a new batch processor.
+     *
+     * @param signalHandler The SignalHandler used to process every signal of a batch.
+     * @param objectMapper  The ObjectMapper used to parse requests and write streamed results.
+     */
+    public SignalBatchProcessor(SignalHandler signalHandler, ObjectMapper objectMapper) {
+        this.signalHandler = signalHandler;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writerFor(SignalResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Processes a JSON array of signal IDs and aggregates the outcome of every signal.
+     *
+     * @param body The request body, containing a JSON array of integers.
+     * @return BatchSignalResponse - The status of every signal, in request order.
+     * @throws IOException If the body cannot be read or is not a JSON array of integers.
+     */
+    public BatchSignalResponse processArray(InputStream body) throws IOException {
+        List<SignalResult> results = new ArrayList<>();
+        int failed = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of signal IDs.");
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                SignalResult result = process(parser, token);
+                if (result.getStatus() != SignalStatus.PROCESSED) {
+                    failed++;
+                }
+                results.add(result);
+            }
+        }
+        return BatchSignalResponse.builder()
+                .processed(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Processes newline delimited signal IDs and writes one newline delimited JSON result per signal as soon as it
+     * has been handled. The output is flushed whenever no more input is immediately available, so that the client
+     * sees the results of a burst without waiting for the end of the stream.
+     *
+     * @param body   The request body, containing one integer per line.
+     * @param output The response body.
+     * @throws IOException If the body cannot be read or the results cannot be written.
+     */
+    public void processStream(InputStream body, OutputStream output) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                resultWriter.writeValue(generator, process(parser, token));
+                generator.writeRaw('\n');
+                if (body.available() == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the signal at the current token, or reports the token as invalid if it is not a signal ID.
+     *
+     * @param parser The parser positioned on the token.
+     * @param token  The current token.
+     * @return SignalResult - The status of the signal.
+     * @throws IOException If the rest of an invalid item cannot be read.
+     */
+    private SignalResult process(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return process(parser.getIntValue());
+        }
+        String text = token.isStructStart() ? token.asString() + "..." : parser.getText();
+        parser.skipChildren();
+        return SignalResult.builder()
+                .status(SignalStatus.INVALID)
+                .errorMessage("Invalid signal ID " + text + ".")
+                .build();
+    }
+
+    /**
+     * Handles a single signal and captures its outcome.
+     *
+     * @param signalId The ID of the trading signal to be processed.
+     * @return SignalResult - The status of the signal.
+     */
+    private SignalResult process(int signalId) {
+        try {
+            signalHandler.handleSignal(signalId);
+            return SignalResult.builder().signalId(signalId).status(SignalStatus.PROCESSED).build();
+        } catch (RuntimeException e) {
+            log.error(" Error while processing signal {} in batch, {}", signalId, e.getMessage());
+            return SignalResult.builder().signalId(signalId).status(SignalStatus.FAILED).errorMessage(e.getMessage()).build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bank.trading.service;
+
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalPlan;
+
+/**
+ * SignalExecutionListener is notified by the SignalProcessor about every executed action and every handled signal.
+ * <p>
+ * Listeners are called on the thread that handles the signal, so implementations must be thread safe and should not
+ * block or allocate. The plan and the compiled signal are passed so that listeners can keep per-signal state in arrays
+ * indexed by {@link CompiledSignal#getOrdinal()}.
+ */
+public interface SignalExecutionListener {
+
+    /**
+     * Called after an action has been executed through the AlgoMethodInvoker. Signals with a generated executor run
+     * all their actions in one call, so this method is not called for them.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param signal        The compiled signal, or null if the action is the fallback for an unknown signal.
+     * @param actionIndex   The index of the action within the signal, or -1 for the fallback action.
+     * @param action        The executed action.
+     * @param durationNanos The time the action took in nanoseconds.
+     * @param failed        Whether the action failed with a reflective error.
+     */
+    default void onAction(SignalPlan plan, CompiledSignal signal, int actionIndex, SignalAction action,
+                          long durationNanos, boolean failed) {
+    }
+
+    /**
+     * Called after a signal has been handled, including the final call to doAlgo.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param signal        The compiled signal, or null if the signal is not configured.
+     * @param signalId      The ID of the trading signal.
+     * @param durationNanos The time the signal took in nanoseconds.
+     * @param failed        Whether handling the signal ended with an exception.
+     */
+    default void onSignal(SignalPlan plan, CompiledSignal signal, int signalId, long durationNanos, boolean failed) {
+    }
+}
@@ -3,29 +3,88 @@ package com.bank.trading.service;
 import com.bank.trading.algo.client.AlgoMethodInvoker;
 import com.bank.trading.algo.stubs.Algo;
 import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
 import com.bank.trading.exception.ResourceNotFoundException;
-import com.fasterxml.jackson.databind.JsonNode;
-import lombok.AllArgsConstructor;
+import com.bank.trading.jfr.SignalEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.StreamSupport;
 
 /**
  * SignalProcessor is a service responsible for handling trading signals and invoking corresponding actions on the
- * Algo Object.
+ * Algo Object. Every signal is recorded as a {@link SignalEvent} when that JFR event is enabled.
  */
 @Service
-@AllArgsConstructor
 @Slf4j
 public class SignalProcessor implements SignalHandler {
 
+    /**
+     * The action executed for signals that are not present in the configuration.
+     */
+    private static final SignalAction CANCEL_TRADES = new SignalAction("cancelTrades", null);
+
     private final Algo algo;
-    private final JsonNode signalConfig;
+    private final SignalPlanHolder signalPlanHolder;
     private final AlgoMethodInvoker algoMethodInvoker;
+    private final SignalExecutionListener[] listeners;
+    private final AlgoStateShadow algoStateShadow;
+    private final AlgoStateShadow.Invocation invocation = this::executeAlgoAction;
+
+    /**
+     * Creates a SignalProcessor that notifies all SignalExecutionListener beans.
+     *
+     * @param algo              The Algo the actions are executed on.
+     * @param signalPlanHolder  The holder of the active signal plan.
+     * @param algoMethodInvoker The invoker used for actions without a generated executor.
+     * @param listeners         The listeners to notify, in their declared order.
+     * @param algoStateShadow   Provides the shadow of the parameters of the Algo, if it is enabled.
+     */
+    @Autowired
+    public SignalProcessor(Algo algo, SignalPlanHolder signalPlanHolder, AlgoMethodInvoker algoMethodInvoker,
+                           ObjectProvider<SignalExecutionListener> listeners,
+                           ObjectProvider<AlgoStateShadow> algoStateShadow) {
+        this(algo, signalPlanHolder, algoMethodInvoker, algoStateShadow.getIfAvailable(),
+                listeners.orderedStream().toArray(SignalExecutionListener[]::new));
+    }
+
+    /**
+     * Creates a SignalProcessor that notifies the given listeners.
+     *
+     * @param algo              The Algo the actions are executed on.
+     * @param signalPlanHolder  The holder of the active signal plan.
+     * @param algoMethodInvoker The invoker used for actions without a generated executor.
+     * @param listeners         The listeners to notify.
+     */
+    public SignalProcessor(Algo algo, SignalPlanHolder signalPlanHolder, AlgoMethodInvoker algoMethodInvoker,
+                           SignalExecutionListener... listeners) {
+        this(algo, signalPlanHolder, algoMethodInvoker, null, listeners);
+    }
+
+    /**
+     * Creates a SignalProcessor that skips setAlgoParam calls that would not change the parameters of its Algo.
+     *
+     * @param algo              The Algo the actions are executed on.
+     * @param signalPlanHolder  The holder of the active signal plan.
+     * @param algoMethodInvoker The invoker used for actions without a generated executor.
+     * @param algoStateShadow   The shadow of the parameters of this Algo, or null. Signals with a generated executor
+     *                          bypass it, so it must only be used with plans compiled for reflective execution.
+     * @param listeners         The listeners to notify.
+     */
+    public SignalProcessor(Algo algo, SignalPlanHolder signalPlanHolder, AlgoMethodInvoker algoMethodInvoker,
+                           AlgoStateShadow algoStateShadow, SignalExecutionListener... listeners) {
+        this.algo = algo;
+        this.signalPlanHolder = signalPlanHolder;
+        this.algoMethodInvoker = algoMethodInvoker;
+        this.algoStateShadow = algoStateShadow;
+        this.listeners = listeners.clone();
+    }
 
     /**
      * This method is called to handle a trading signal with the specified ID.
@@ -34,37 +93,84 @@ public class SignalProcessor implements SignalHandler {
      */
     @Override
     public void handleSignal(int signal) {
-        // Retrieve the signals array from the signal configuration
-        JsonNode signalsArray = signalConfig.get("signals");
-        if (signalsArray == null || !signalsArray.isArray()) {
+        // Look up the pre-compiled actions of the signal in the active plan. The plan is read once, so a concurrent
+        // reload does not affect a signal that is already being processed.
+        SignalPlan plan = signalPlanHolder.current();
+        CompiledSignal compiled = plan.lookup(signal);
+        SignalEvent event = SignalEvent.beginIfEnabled();
+        if (listeners.length == 0) {
+            boolean failed = true;
+            try {
+                process(plan, compiled);
+                failed = false;
+            } finally {
+                commit(event, signal, compiled, failed);
+            }
             return;
         }
 
-        // Check if the specified signal ID is present in the signals array
-        boolean isFound = StreamSupport.stream(signalsArray.spliterator(), false)
-                .anyMatch(signalNode -> signalNode.has("id") && signalNode.get("id").isInt() && signalNode.get("id").asInt() == signal);
-
-        // Process the signal if it is found
-        if (isFound) {
-            StreamSupport.stream(signalsArray.spliterator(), false)
-                    .filter(signalNode -> signalNode.get("id").asInt() == signal)
-                    .flatMap(signalNode -> StreamSupport.stream(signalNode.get("actions").spliterator(), false))
-                    .forEach(action -> {
-                        String method = action.get("method").asText();
-                        JsonNode params = action.get("params");
-                        try {
-                            executeAlgoAction(method, params);
-                        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-                            log(method, e);
-                        }
-                    });
-        } else {
-            // If the signal is not found, cancel all trades
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            process(plan, compiled);
+            failed = false;
+        } finally {
+            long duration = System.nanoTime() - start;
+            commit(event, signal, compiled, failed);
+            for (SignalExecutionListener listener : listeners) {
+                listener.onSignal(plan, compiled, signal, duration, failed);
+            }
+        }
+    }
+
+    /**
+     * Commits the JFR event of a signal if it is enabled and above its threshold.
+     *
+     * @param event    The event, begun before the signal was processed, or null if it is disabled.
+     * @param signal   The ID of the signal.
+     * @param compiled The compiled signal, or null if the signal is not configured.
+     * @param failed   Whether processing the signal threw an exception.
+     */
+    private static void commit(SignalEvent event, int signal, CompiledSignal compiled, boolean failed) {
+        if (event == null) {
+            return;
+        }
+        // The duration, which shouldCommit compares with the threshold, is only known once the event has ended
+        event.end();
+        if (event.shouldCommit()) {
+            event.signalId = signal;
+            event.configured = compiled != null;
+            event.actionCount = compiled != null ? compiled.getActions().size() : 0;
+            event.compiled = compiled != null && compiled.getExecutor() != null;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Executes the actions of a signal followed by the main algorithm process.
+     *
+     * @param plan     The plan the signal was looked up in.
+     * @param compiled The compiled signal, or null if the signal is not configured.
+     */
+    private void process(SignalPlan plan, CompiledSignal compiled) {
+        if (compiled != null && compiled.getExecutor() != null) {
+            // Run the generated executor, which calls the Algo methods directly. Failures are reported like those of
+            // the reflective path, so a signal fails the same way in both execution modes.
             try {
-                executeAlgoAction("cancelTrades", null);
-            } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-                log("cancelTrades", e);
+                compiled.getExecutor().execute(algo);
+            } catch (Throwable t) {
+                log("signal " + compiled.getId(), new InvocationTargetException(t));
             }
+        } else if (compiled != null) {
+            // Process the signal if it is found
+            List<SignalAction> actions = compiled.getActions();
+            for (int i = 0; i < actions.size(); i++) {
+                execute(plan, compiled, i, actions.get(i));
+            }
+        } else {
+            // If the signal is not found, cancel all trades
+            execute(plan, null, -1, CANCEL_TRADES);
         }
 
         // Perform the main algorithm process
@@ -72,63 +178,105 @@ public class SignalProcessor implements SignalHandler {
     }
 
     /**
-     * Logs the method and the exception when an error occurs during execution.
+     * Executes a single action and translates reflective errors into a ResourceNotFoundException. Actions that were
+     * found to be misconfigured when the plan was compiled are not invoked: they are skipped, or fail with the
+     * exception created at that time.
+     *
+     * @param plan        The plan the signal was looked up in.
+     * @param compiled    The compiled signal, or null for the fallback action.
+     * @param actionIndex The index of the action within the signal, or -1 for the fallback action.
+     * @param action      The action to be executed.
+     */
+    private void execute(SignalPlan plan, CompiledSignal compiled, int actionIndex, SignalAction action) {
+        if (action.getStatus() != SignalAction.Status.OK) {
+            boolean failed = action.getStatus() == SignalAction.Status.NO_SUCH_METHOD;
+            notifyAction(plan, compiled, actionIndex, action, 0, failed);
+            if (failed) {
+                throw action.getFailure();
+            }
+            return;
+        }
+
+        if (listeners.length == 0) {
+            try {
+                executeTracked(action);
+            } catch (ReflectiveOperationException e) {
+                log(action.getMethod(), e);
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            // An elided call is reported like a skipped action, with a duration of 0
+            long duration = executeTracked(action) ? System.nanoTime() - start : 0;
+            notifyAction(plan, compiled, actionIndex, action, duration, false);
+        } catch (ReflectiveOperationException e) {
+            notifyAction(plan, compiled, actionIndex, action, System.nanoTime() - start, true);
+            log(action.getMethod(), e);
+        }
+    }
+
+    /**
+     * Notifies the listeners about an executed action.
+     *
+     * @param plan          The plan the signal was looked up in.
+     * @param compiled      The compiled signal, or null for the fallback action.
+     * @param actionIndex   The index of the action within the signal, or -1 for the fallback action.
+     * @param action        The executed action.
+     * @param durationNanos The time the action took in nanoseconds.
+     * @param failed        Whether the action failed with a reflective error.
+     */
+    private void notifyAction(SignalPlan plan, CompiledSignal compiled, int actionIndex, SignalAction action,
+                              long durationNanos, boolean failed) {
+        for (SignalExecutionListener listener : listeners) {
+            listener.onAction(plan, compiled, actionIndex, action, durationNanos, failed);
+        }
+    }
+
+    /**
+     * Logs the method and the exception when an error occurs during execution, and throws a stackless
+     * ResourceNotFoundException that keeps the error as its cause.
      *
      * @param method The method name where the error occurred.
      * @param e      The exception that was thrown.
      */
     private void log(String method, ReflectiveOperationException e) {
         log.error(" Error while executing {}, {}", method, e.getMessage());
-        throw new ResourceNotFoundException("Resource or Method Not found." + e.getMessage());
+        throw new ResourceNotFoundException("Resource or Method Not found." + e.getMessage(), e);
+    }
+
+    /**
+     * Executes an action through the shadow of the parameters of the Algo, if there is one.
+     *
+     * @param action The algorithm action to be executed.
+     * @return False if the call was elided because it would not change the parameters.
+     * @throws ReflectiveOperationException If the method cannot be invoked or throws an exception.
+     */
+    private boolean executeTracked(SignalAction action) throws ReflectiveOperationException {
+        if (algoStateShadow != null) {
+            return algoStateShadow.execute(action, invocation);
+        }
+        executeAlgoAction(action);
+        return true;
     }
 
     /**
-     * Executes the specified algorithm action with the given parameters.
+     * Executes the specified algorithm action with its pre-converted arguments.
      *
-     * @param method The name of the algorithm action to be executed.
-     * @param params The parameters to be passed to the algorithm action.
+     * @param action The algorithm action to be executed.
      * @throws InvocationTargetException If the invoked method throws an exception.
      * @throws IllegalAccessException    If the method cannot be accessed.
      * @throws NoSuchMethodException     If the method is not found.
      */
-    private void executeAlgoAction(String method, JsonNode params) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
-        if (params != null) {
-            List<Object> list = new ArrayList<>();
-            params.forEach(element -> addParamValue(element, list));
-
+    private void executeAlgoAction(SignalAction action) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+        if (action.hasArguments()) {
             // Invoke the algorithm method with arguments
-            algoMethodInvoker.invokeMethodWithArgs(algo, method, list.toArray());
+            algoMethodInvoker.invokeMethodWithArgs(algo, action.getMethod(), action.getArguments());
             return;
         }
 
         // Invoke the algorithm method without arguments
-        algoMethodInvoker.invokeMethodNoArgs(algo, method);
-    }
-
-    /**
-     * Adds the parameter value from the JSON node to the list of values.
-     *
-     * @param element The JSON node representing the parameter value.
-     * @param values  The list to which the parameter value will be added.
-     */
-    private void addParamValue(JsonNode element, List<Object> values) {
-        switch (element.getNodeType()) {
-            case NUMBER:
-                if (element.isDouble()) {
-                    values.add(element.asDouble());
-                } else if (element.isInt()) {
-                    values.add(element.asInt());
-                }
-                break;
-            case BOOLEAN:
-                values.add(element.asBoolean());
-                break;
-            case STRING:
-                values.add(element.asText());
-                break;
-            default:
-                // Handle other node types, if needed
-                break;
-        }
+        algoMethodInvoker.invokeMethodNoArgs(algo, action.getMethod());
     }
 }
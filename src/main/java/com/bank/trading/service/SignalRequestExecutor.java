@@ -0,0 +1,75 @@
+package com.bank.trading.service;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SignalRequestExecutor runs signals received over HTTP on a bounded pool of worker threads, so that the servlet
+ * container thread is released while the Algo is busy. At most {@code maxConcurrency} signals are processed at the
+ * same time and at most {@code queueCapacity} wait for a worker; further signals are rejected immediately.
+ */
+public class SignalRequestExecutor implements DisposableBean {
+
+    private final SignalHandler signalHandler;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param signalHandler  The SignalHandler used to process the signals.
+     * @param maxConcurrency The number of worker threads.
+     * @param queueCapacity  The number of signals that may wait for a worker.
+     */
+    public SignalRequestExecutor(SignalHandler signalHandler, int maxConcurrency, int queueCapacity) {
+        this.signalHandler = signalHandler;
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("signal-request-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Submits a signal for processing.
+     *
+     * @param signalId The ID of the trading signal to be processed.
+     * @return A future that completes when the signal has been processed, or completes exceptionally with the
+     * exception thrown by the SignalHandler.
+     * @throws RejectedExecutionException If all workers are busy and the queue is full.
+     */
+    public CompletableFuture<Void> submit(int signalId) {
+        return submit(() -> signalHandler.handleSignal(signalId));
+    }
+
+    /**
+     * Submits a task that processes a signal, e.g. one that routes it by a shard key.
+     *
+     * @param task The task to be run on a worker thread.
+     * @return A future that completes when the task has finished, or completes exceptionally with the exception
+     * thrown by the task.
+     * @throws RejectedExecutionException If all workers are busy and the queue is full.
+     */
+    public CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    /**
+     * Returns the number of signals waiting for a worker.
+     *
+     * @return The current queue depth.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.trading.warmup;
+
+import com.bank.trading.algo.stubs.Algo;
+
+/**
+ * ShadowAlgo is an Algo without side effects, used to warm up the signal path. Every public method of Algo is
+ * overridden, so no call ever reaches the implementation that trades; only the number of calls is counted.
+ */
+public class ShadowAlgo extends Algo {
+
+    private long calls;
+
+    @Override
+    public void doAlgo() {
+        calls++;
+    }
+
+    @Override
+    public void cancelTrades() {
+        calls++;
+    }
+
+    @Override
+    public void reverse() {
+        calls++;
+    }
+
+    @Override
+    public void submitToMarket() {
+        calls++;
+    }
+
+    @Override
+    public void performCalc() {
+        calls++;
+    }
+
+    @Override
+    public void setUp() {
+        calls++;
+    }
+
+    @Override
+    public void setAlgoParam(int param, int value) {
+        calls++;
+    }
+
+    /**
+     * Returns the number of calls received.
+     *
+     * @return The number of Algo method calls.
+     */
+    public long getCalls() {
+        return calls;
+    }
+}
@@ -0,0 +1,162 @@
+package com.bank.trading.warmup;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.CompiledSignal;
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.pipeline.SequencedSignalPipeline;
+import com.bank.trading.service.SignalProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+/**
+ * SignalWarmup drives every configured signal through a SignalProcessor a number of times at startup, so that the
+ * signal path is class loaded and JIT compiled before the first real signal arrives.
+ * <p>
+ * The warm-up never touches the real Algo: its SignalProcessor works on a {@link ShadowAlgo} and notifies no
+ * listeners, so neither metrics nor the journal see warm-up signals. The reflective lookups of the real Algo class
+ * are resolved through {@link AlgoMethodInvoker#prepare} without invoking anything.
+ * <p>
+ * The warm-up runs when it is started as a lifecycle bean, before the web server and the TCP and IPC ingresses are
+ * started, so no signal arrives while it runs. Spring Boot reports the readiness state ACCEPTING_TRAFFIC only after
+ * the context has started, so the Actuator readiness probe stays down until the warm-up is done.
+ */
+@Slf4j
+public class SignalWarmup implements SmartLifecycle {
+
+    /**
+     * The warm-up is started after the journal and the console, and before the dispatch stages, the web server and the
+     * TCP and IPC ingresses, which run in later phases.
+     */
+    public static final int PHASE = SequencedSignalPipeline.PHASE - 512;
+
+    private final SignalPlanHolder signalPlanHolder;
+    private final AlgoMethodInvoker algoMethodInvoker;
+    private final Class<? extends Algo> algoClass;
+    private final int iterations;
+    private final Duration timeout;
+    private final ShadowAlgo shadowAlgo = new ShadowAlgo();
+    private volatile boolean running;
+
+    /**
+     * Creates a new warm-up.
+     *
+     * @param signalPlanHolder  The holder of the active plan.
+     * @param algoMethodInvoker The invoker used by the real SignalProcessor, whose caches are prepared.
+     * @param algoClass         The class of the real Algo; no instance of it is used.
+     * @param iterations        How many times every signal is handled.
+     * @param timeout           The time after which the warm-up stops, even if not all iterations are done.
+     */
+    public SignalWarmup(SignalPlanHolder signalPlanHolder, AlgoMethodInvoker algoMethodInvoker,
+                        Class<? extends Algo> algoClass, int iterations, Duration timeout) {
+        this.signalPlanHolder = signalPlanHolder;
+        this.algoMethodInvoker = algoMethodInvoker;
+        this.algoClass = algoClass;
+        this.iterations = iterations;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        warmUp();
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Runs the warm-up.
+     *
+     * @return The number of signals handled by the shadow SignalProcessor.
+     */
+    public long warmUp() {
+        SignalPlan plan = signalPlanHolder.current();
+        plan.forEach(this::prepare);
+
+        SignalProcessor processor = new SignalProcessor(shadowAlgo, signalPlanHolder, algoMethodInvoker);
+        int[] signalIds = new int[plan.size() + 1];
+        plan.forEach(signal -> signalIds[signal.getOrdinal()] = signal.getId());
+        // One ID that is not configured, to warm up the cancelTrades fallback
+        signalIds[plan.size()] = unconfiguredId(plan);
+
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long handled = 0;
+        int iteration = 0;
+        for (; iteration < iterations && System.nanoTime() - deadline < 0; iteration++) {
+            for (int signalId : signalIds) {
+                try {
+                    processor.handleSignal(signalId);
+                } catch (RuntimeException e) {
+                    // Misconfigured signals fail on every call; they were reported when the plan was compiled
+                }
+                handled++;
+            }
+        }
+        log.info("Warm-up handled {} signals in {} of {} iterations in {} ms.", handled, iteration, iterations,
+                (System.nanoTime() - start) / 1_000_000);
+        return handled;
+    }
+
+    /**
+     * Resolves the methods of the actions of a signal on the real Algo class.
+     *
+     * @param signal The compiled signal.
+     */
+    private void prepare(CompiledSignal signal) {
+        for (SignalAction action : signal.getActions()) {
+            if (action.getStatus() != SignalAction.Status.OK) {
+                continue;
+            }
+            try {
+                algoMethodInvoker.prepare(algoClass, action.getMethod(), action.getArguments());
+            } catch (IllegalAccessException e) {
+                log.warn("Warm-up cannot resolve action {} of signal {}, {}", action.getMethod(), signal.getId(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Finds a signal ID that is not configured in the plan.
+     *
+     * @param plan The plan.
+     * @return An unconfigured signal ID.
+     */
+    private static int unconfiguredId(SignalPlan plan) {
+        int signalId = Integer.MIN_VALUE;
+        while (plan.lookup(signalId) != null) {
+            signalId++;
+        }
+        return signalId;
+    }
+
+    /**
+     * Returns the Algo the warm-up works on.
+     *
+     * @return The shadow Algo.
+     */
+    ShadowAlgo getShadowAlgo() {
+        return shadowAlgo;
+    }
+}
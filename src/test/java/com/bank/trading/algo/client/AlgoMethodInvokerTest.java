@@ -3,6 +3,7 @@ package com.bank.trading.algo.client;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,4 +34,37 @@ class AlgoMethodInvokerTest {
         // Verify that the method was not invoked
         verifyNoInteractions(testObject);
     }
-}
\ No newline at end of file
+
+    @Test
+    void ShouldReuseResolvedMethodsAcrossCalls() throws Exception {
+        SampleTestClass testObject = mock(SampleTestClass.class);
+        AlgoMethodInvoker invoker = new AlgoMethodInvoker();
+
+        invoker.invokeMethodWithArgs(testObject, "methodWithParameters", 1, 2);
+        invoker.invokeMethodWithArgs(testObject, "methodWithParameters", 3, 4);
+        invoker.invokeMethodNoArgs(testObject, "isMethodWithNoArgsInvoked");
+        invoker.invokeMethodNoArgs(testObject, "isMethodWithNoArgsInvoked");
+
+        verify(testObject).methodWithParameters(1, 2);
+        verify(testObject).methodWithParameters(3, 4);
+        verify(testObject, times(2)).isMethodWithNoArgsInvoked();
+    }
+
+    @Test
+    void ShouldNotInvokeMethodWithArgsWhenArgumentTypesDoNotMatch() throws Exception {
+        SampleTestClass testObject = mock(SampleTestClass.class);
+        AlgoMethodInvoker invoker = new AlgoMethodInvoker();
+
+        invoker.invokeMethodWithArgs(testObject, "methodWithParameters", 1.5, 2);
+        invoker.invokeMethodWithArgs(testObject, "methodWithParameters", 1.5, 2);
+
+        verifyNoInteractions(testObject);
+    }
+
+    @Test
+    void ShouldWrapExceptionsThrownByTheInvokedMethod() {
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> new AlgoMethodInvoker().invokeMethodNoArgs(new SampleTestClass(), "throwingMethod"));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+}
@@ -6,4 +6,8 @@ public class SampleTestClass {
 
     public void methodWithParameters(int a, int b) {
     }
+
+    public void throwingMethod() {
+        throw new IllegalStateException("boom");
+    }
 }
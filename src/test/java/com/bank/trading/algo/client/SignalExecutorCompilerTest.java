@@ -0,0 +1,55 @@
+package com.bank.trading.algo.client;
+
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalAction;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SignalExecutorCompilerTest {
+
+    private final SignalExecutorCompiler compiler = new SignalExecutorCompiler();
+
+    @Test
+    void shouldCallAlgoMethodsInOrderWithConstantArguments() {
+        Algo algo = mock(Algo.class);
+        SignalExecutor executor = compiler.compile(1, List.of(
+                new SignalAction("setUp", null),
+                new SignalAction("setAlgoParam", new Object[]{1, 60}),
+                new SignalAction("setAlgoParam", new Object[]{-1, 100000}),
+                new SignalAction("performCalc", null),
+                new SignalAction("submitToMarket", null)));
+
+        assertNotNull(executor);
+        executor.execute(algo);
+
+        InOrder inOrder = inOrder(algo);
+        inOrder.verify(algo).setUp();
+        inOrder.verify(algo).setAlgoParam(1, 60);
+        inOrder.verify(algo).setAlgoParam(-1, 100000);
+        inOrder.verify(algo).performCalc();
+        inOrder.verify(algo).submitToMarket();
+        verifyNoMoreInteractions(algo);
+    }
+
+    @Test
+    void shouldNotCompileSignalsWithUnknownMethods() {
+        assertNull(compiler.compile(4, List.of(new SignalAction("performCalc", null), new SignalAction("test", null))));
+    }
+
+    @Test
+    void shouldNotCompileSignalsWithMismatchedArguments() {
+        assertNull(compiler.compile(-4, List.of(new SignalAction("setAlgoParam", new Object[]{1.5, 2}))));
+        assertNull(compiler.compile(-5, List.of(new SignalAction("setAlgoParam", null))));
+    }
+
+    @Test
+    void shouldNotCompileSignalsWithActionsThatFailedToResolve() {
+        assertNull(compiler.compile(6, List.of(new SignalAction("setAlgoParam", new Object[]{1.5, 2},
+                SignalAction.Status.NO_MATCHING_OVERLOAD, null))));
+    }
+}
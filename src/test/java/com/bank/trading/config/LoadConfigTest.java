@@ -1,6 +1,5 @@
 package com.bank.trading.config;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,7 +10,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @ContextConfiguration(classes = {LoadConfig.class})
 @ExtendWith(SpringExtension.class)
@@ -24,7 +24,9 @@ class LoadConfigTest {
 
     @Test
     void shouldReadConfig() throws IOException {
-        assertTrue(loadConfig.readConfig() instanceof ObjectNode);
+        SignalPlan plan = loadConfig.signalPlanHolder().current();
+        assertNotNull(plan.lookup(1));
+        assertEquals(4, plan.lookup(1).getActions().size());
     }
 }
 
@@ -0,0 +1,59 @@
+package com.bank.trading.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalActionOptimizerTest {
+
+    private static final String CONFIG = "{\"signals\":["
+            + "{\"id\":1,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,60]},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[2,15]},{\"method\":\"setAlgoParam\",\"params\":[1,70]},"
+            + "{\"method\":\"performCalc\"},{\"method\":\"setAlgoParam\",\"params\":[1,70]},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[2,16]},{\"method\":\"submitToMarket\"}]},"
+            + "{\"id\":2,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,90]},{\"method\":\"setUp\"},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[1,90]},{\"method\":\"setAlgoParam\",\"params\":[1,90]}]},"
+            + "{\"id\":3,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,90]},{\"method\":\"test\"},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[1,90]}]},"
+            + "{\"id\":4,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,90]},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[2,15]},{\"method\":\"performCalc\"}]}]}";
+
+    private static SignalPlan parse(SignalActionOptimizer optimizer) throws IOException {
+        return SignalConfigParser.parse(new ByteArrayInputStream(CONFIG.getBytes(StandardCharsets.UTF_8)), "test",
+                null, optimizer);
+    }
+
+    private static List<String> describe(CompiledSignal signal) {
+        return signal.getActions().stream()
+                .map(action -> action.getMethod() + (action.hasArguments() ? Arrays.toString(action.getArguments()) : ""))
+                .toList();
+    }
+
+    @Test
+    void shouldRemoveRedundantParameterWrites() throws IOException {
+        SignalPlan plan = parse(new SignalActionOptimizer(List.of("setUp", "cancelTrades")));
+
+        // Overwritten in the same run, and set to the value it already has
+        assertEquals(List.of("setAlgoParam[2, 15]", "setAlgoParam[1, 70]", "performCalc", "setAlgoParam[2, 16]",
+                "submitToMarket"), describe(plan.lookup(1)));
+        // A reset method makes the parameter unknown again
+        assertEquals(List.of("setAlgoParam[1, 90]", "setUp", "setAlgoParam[1, 90]"), describe(plan.lookup(2)));
+        // Nothing after an action that fails the signal is touched
+        assertEquals(List.of("setAlgoParam[1, 90]", "test", "setAlgoParam[1, 90]"), describe(plan.lookup(3)));
+        // Writes of different parameters are kept
+        assertEquals(List.of("setAlgoParam[1, 90]", "setAlgoParam[2, 15]", "performCalc"), describe(plan.lookup(4)));
+    }
+
+    @Test
+    void shouldKeepAllActionsWithoutOptimizer() throws IOException {
+        SignalPlan plan = parse(null);
+        assertEquals(7, plan.lookup(1).getActions().size());
+        assertEquals(4, plan.lookup(2).getActions().size());
+    }
+}
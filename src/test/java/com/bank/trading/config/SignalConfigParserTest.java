@@ -0,0 +1,87 @@
+package com.bank.trading.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalConfigParserTest {
+
+    private static SignalPlan parse(String json) throws IOException {
+        return SignalConfigParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "test", null);
+    }
+
+    private static List<String> describe(SignalPlan plan) {
+        List<String> signals = new ArrayList<>();
+        plan.forEach(signal -> signals.add(signal.getOrdinal() + ":" + signal.getId() + ":"
+                + signal.getShardKey() + ":" + signal.getActions().stream()
+                .map(action -> action.getMethod() + Arrays.toString(action.getArguments()) + action.getStatus())
+                .toList()));
+        signals.sort(null);
+        return signals;
+    }
+
+    @Test
+    void shouldCompileSignalsWithFieldsInAnyOrder() throws IOException {
+        String json = "{\"version\":{\"a\":[1,2]},\"signals\":["
+                + "{\"actions\":[{\"params\":[1,60.5,true,\"x\",null,[2],9999999999],\"method\":\"setAlgoParam\"}],"
+                + "\"id\":1,\"shardKey\":7},"
+                + "{\"id\":\"2\",\"actions\":[{\"method\":\"setUp\"}]},"
+                + "{\"id\":3,\"shardKey\":\"a\",\"actions\":{\"x\":{\"method\":\"reverse\"},\"y\":{\"method\":\"nope\"}}},"
+                + "{\"id\":4,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":5}],\"extra\":[{}]},"
+                + "{\"id\":1,\"shardKey\":7.5e0,\"actions\":[]},"
+                + "42]}";
+        try (InputStream inputStream = getClass().getResourceAsStream("/signal-config.json")) {
+            SignalPlan plan = SignalConfigParser.parse(inputStream, "signal-config.json", null);
+            assertEquals(List.of("setUp", "setAlgoParam", "performCalc", "submitToMarket"),
+                    plan.lookup(1).getActions().stream().map(SignalAction::getMethod).toList());
+            assertArrayEquals(new Object[]{1, 60}, plan.lookup(1).getActions().get(1).getArguments());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> parse(json));
+        String compatible = json.replace("7.5e0", "7");
+        SignalPlan plan = parse(compatible);
+        assertEquals(List.of("0:1:7:[setAlgoParam[1, 60.5, true, x]NO_MATCHING_OVERLOAD]",
+                "1:3:a:[reversenullOK, nopenullNO_SUCH_METHOD]", "2:4:null:[setAlgoParam[]NO_MATCHING_OVERLOAD]"),
+                describe(plan));
+        assertNull(plan.lookup(2));
+        assertEquals("7", plan.lookup(1).getShardKey());
+        assertArrayEquals(new Object[]{1, 60.5, true, "x"}, plan.lookup(1).getActions().get(0).getArguments());
+        assertEquals(SignalAction.Status.NO_SUCH_METHOD, plan.lookup(3).getActions().get(1).getStatus());
+        assertArrayEquals(new Object[0], plan.lookup(4).getActions().get(0).getArguments());
+    }
+
+    @Test
+    void shouldShareRepeatedActions() throws IOException {
+        SignalPlan plan = parse("{\"signals\":["
+                + "{\"id\":1,\"actions\":[{\"method\":\"setUp\"},{\"method\":\"setAlgoParam\",\"params\":[1,60]}]},"
+                + "{\"id\":2,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,60]},{\"method\":\"setUp\"}]},"
+                + "{\"id\":3,\"actions\":[{\"method\":\"setUp\"},{\"method\":\"setAlgoParam\",\"params\":[1,60]}]}]}");
+
+        List<SignalAction> first = plan.lookup(1).getActions();
+        List<SignalAction> second = plan.lookup(2).getActions();
+        assertSame(first.get(0), second.get(1));
+        assertSame(first.get(1), second.get(0));
+        assertSame(first, plan.lookup(3).getActions());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void shouldRejectConfigurationsWithoutSignals() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> parse("{\"signals\":{\"id\":1}}"));
+        assertEquals("Signal configuration test does not contain a \"signals\" array.", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> parse("[]"));
+        assertThrows(IllegalArgumentException.class, () -> parse("{\"signals\":[],\"signals\":1}"));
+        assertThrows(IllegalArgumentException.class,
+                () -> parse("{\"signals\":[{\"id\":1,\"actions\":[{\"params\":[1]}]}]}"));
+        assertEquals(0, assertDoesNotThrow(() -> parse("{\"signals\":[{\"actions\":[{\"params\":[1]}]}]}")).size());
+    }
+}
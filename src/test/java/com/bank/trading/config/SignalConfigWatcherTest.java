@@ -0,0 +1,83 @@
+package com.bank.trading.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalConfigWatcherTest {
+
+    private static final String ONE_SIGNAL = "{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"}]}]}";
+    private static final String TWO_SIGNALS = "{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"}]},"
+            + "{\"id\":7,\"actions\":[{\"method\":\"reverse\"}]}]}";
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private SignalPlanHolder holder;
+    private SignalConfigWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("signal-config.json");
+        Files.writeString(file, ONE_SIGNAL);
+        TradingProperties properties = new TradingProperties();
+        properties.getConfig().setLocation(file.toUri().toString());
+        SignalConfigLoader loader = new SignalConfigLoader(new DefaultResourceLoader(), properties);
+        holder = new SignalPlanHolder(loader.load());
+        watcher = new SignalConfigWatcher(loader, holder, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    void shouldPublishChangedConfiguration() throws IOException {
+        SignalPlan initial = holder.current();
+        assertFalse(watcher.reloadIfChanged());
+
+        Files.writeString(file, TWO_SIGNALS);
+
+        assertTrue(watcher.reloadIfChanged());
+        assertNotSame(initial, holder.current());
+        assertEquals("reverse", holder.current().lookup(7).getActions().get(0).getMethod());
+        assertNull(initial.lookup(7));
+    }
+
+    @Test
+    void shouldKeepCurrentPlanWhenConfigurationIsInvalid() throws IOException {
+        SignalPlan initial = holder.current();
+
+        Files.writeString(file, "{\"signals\":[{\"id\":1,\"actions\":[{\"params\":[1]}]}");
+        assertFalse(watcher.reloadIfChanged());
+        Files.writeString(file, "{\"other\":[]}");
+        assertFalse(watcher.reloadIfChanged());
+
+        assertSame(initial, holder.current());
+    }
+
+    @Test
+    void shouldReloadWhenFileIsModified() throws Exception {
+        watcher.start();
+        assertTrue(watcher.isRunning());
+
+        Files.writeString(file, TWO_SIGNALS);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (holder.current().lookup(7) == null && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertNotNull(holder.current().lookup(7));
+    }
+}
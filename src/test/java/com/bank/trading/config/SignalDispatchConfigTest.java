@@ -0,0 +1,73 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.pipeline.ShardedSignalHandler;
+import com.bank.trading.service.AlgoStateShadow;
+import com.bank.trading.service.SignalExecutionListener;
+import com.bank.trading.service.SignalProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalDispatchConfigTest {
+
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+    @Test
+    void shouldCreateTheShardAlgosFromTheClassOfTheAlgoBean() throws Exception {
+        SignalPlanHolder holder = new SignalPlanHolder(SignalPlans.parse(
+                "{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"}]}]}"));
+        AlgoMethodInvoker invoker = new AlgoMethodInvoker();
+        TradingProperties properties = new TradingProperties();
+        properties.getSharding().setShards(3);
+        TrackingAlgo algo = new TrackingAlgo();
+
+        ShardedSignalHandler sharded = new SignalDispatchConfig().shardedSignalHandler(
+                new SignalProcessor(algo, holder, invoker), algo, holder, invoker,
+                beanFactory.getBeanProvider(SignalExecutionListener.class),
+                beanFactory.getBeanProvider(AlgoStateShadow.class), properties);
+        sharded.start();
+        try {
+            for (int key = 0; TrackingAlgo.USED.size() < 3 && key < 1000; key++) {
+                sharded.handleSignal(1, "key-" + key);
+            }
+        } finally {
+            sharded.stop();
+        }
+
+        assertEquals(3, TrackingAlgo.USED.size());
+        assertTrue(TrackingAlgo.USED.contains(algo));
+    }
+
+    @Test
+    void shouldRejectAlgoClassesThatCannotBeInstantiated() {
+        TradingProperties properties = new TradingProperties();
+        properties.getSharding().setShards(2);
+        Algo algo = new Algo() {
+        };
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new SignalDispatchConfig().shardedSignalHandler(null, algo, null, null,
+                        beanFactory.getBeanProvider(SignalExecutionListener.class),
+                        beanFactory.getBeanProvider(AlgoStateShadow.class), properties));
+        assertTrue(e.getMessage().startsWith("Cannot create an Algo of "));
+    }
+
+    /**
+     * Records every instance on which a signal is executed.
+     */
+    public static class TrackingAlgo extends Algo {
+
+        static final Set<Algo> USED = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void setUp() {
+            USED.add(this);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bank.trading.config;
+
+import com.bank.trading.TradingApplication;
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.pipeline.SequencedSignalPipeline;
+import com.bank.trading.pipeline.ShardedSignalHandler;
+import com.bank.trading.pipeline.SignalConflator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalDispatchShutdownTest {
+
+    private static final int WEB_SERVER_PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldStopTheDispatchStagesAfterTheWebServer() {
+        assertTrue(SignalConflator.PHASE < WEB_SERVER_PHASE);
+        assertTrue(ShardedSignalHandler.PHASE < WEB_SERVER_PHASE);
+        assertTrue(SequencedSignalPipeline.PHASE < SignalConflator.PHASE);
+    }
+
+    @Test
+    void shouldDrainTheConflatorIntoThePipelineOnShutdown() throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TradingApplication.class)
+                .properties("spring.main.web-application-type=none", "trading.pipeline.enabled=true",
+                        "trading.conflation.enabled=true", "trading.conflation.window=10s")
+                .run();
+        SignalHandler signalHandler = context.getBean(SignalHandler.class);
+        SignalConflator conflator = context.getBean(SignalConflator.class);
+
+        // The long window holds the signal in the conflator until the context is closed, the duplicate joining it
+        // shows that it has been queued
+        CompletableFuture<Void> signal = CompletableFuture.runAsync(() -> signalHandler.handleSignal(2), callers);
+        CompletableFuture<Void> duplicate = CompletableFuture.runAsync(() -> signalHandler.handleSignal(2), callers);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (conflator.getConflatedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, conflator.getConflatedCount());
+        assertFalse(signal.isDone());
+
+        context.close();
+
+        assertDoesNotThrow(() -> signal.get(5, TimeUnit.SECONDS));
+        assertDoesNotThrow(() -> duplicate.get(5, TimeUnit.SECONDS));
+    }
+}
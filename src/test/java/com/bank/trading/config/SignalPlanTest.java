@@ -0,0 +1,140 @@
+package com.bank.trading.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import com.bank.trading.algo.stubs.Algo;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalPlanTest {
+
+    private SignalPlan compile(String json) throws Exception {
+        return SignalPlans.parse(json);
+    }
+
+    @Test
+    void shouldLookUpConfiguredSignalWithConvertedArguments() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"},"
+                + "{\"method\":\"setAlgoParam\",\"params\":[1,60.5,true,\"x\"]}]}]}");
+
+        List<SignalAction> actions = plan.lookup(1).getActions();
+        assertEquals(2, actions.size());
+        assertEquals("setUp", actions.get(0).getMethod());
+        assertFalse(actions.get(0).hasArguments());
+        assertArrayEquals(new Object[]{1, 60.5, true, "x"}, actions.get(1).getArguments());
+        assertThrows(UnsupportedOperationException.class, () -> actions.add(actions.get(0)));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownSignals() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":1,\"actions\":[]},{\"id\":3,\"actions\":[]}]}");
+
+        assertNotNull(plan.lookup(3));
+        assertNull(plan.lookup(2));
+        assertNull(plan.lookup(-1));
+        assertNull(plan.lookup(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldLookUpSparseSignalIds() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":-2000000000,\"actions\":[{\"method\":\"reverse\"}]},"
+                + "{\"id\":7,\"actions\":[]},{\"id\":2000000000,\"actions\":[{\"method\":\"setUp\"}]}]}");
+
+        assertEquals(3, plan.size());
+        assertEquals("reverse", plan.lookup(-2000000000).getActions().get(0).getMethod());
+        assertEquals("setUp", plan.lookup(2000000000).getActions().get(0).getMethod());
+        assertTrue(plan.lookup(7).getActions().isEmpty());
+        assertNull(plan.lookup(8));
+    }
+
+    @Test
+    void shouldConcatenateActionsOfDuplicateIds() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"}]},"
+                + "{\"id\":1,\"actions\":[{\"method\":\"performCalc\"}]}]}");
+
+        assertEquals(1, plan.size());
+        assertEquals(List.of("setUp", "performCalc"), plan.lookup(1).getActions().stream().map(SignalAction::getMethod).toList());
+    }
+
+    @Test
+    void shouldRejectActionsWithoutMethod() {
+        assertThrows(IllegalArgumentException.class,
+                () -> compile("{\"signals\":[{\"id\":1,\"actions\":[{\"params\":[1]}]}]}"));
+    }
+
+    @Test
+    void shouldReadShardKeys() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":1,\"shardKey\":\"EURUSD\",\"actions\":[]},"
+                + "{\"id\":2,\"shardKey\":7,\"actions\":[]},{\"id\":3,\"actions\":[]}]}");
+
+        assertEquals("EURUSD", plan.lookup(1).getShardKey());
+        assertEquals("7", plan.lookup(2).getShardKey());
+        assertNull(plan.lookup(3).getShardKey());
+        assertThrows(IllegalArgumentException.class, () -> compile("{\"signals\":[{\"id\":1,\"shardKey\":\"a\"},"
+                + "{\"id\":1,\"shardKey\":\"b\"}]}"));
+    }
+
+    @Test
+    void shouldReadPriorities() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":1,\"priority\":\"critical\",\"actions\":[]},"
+                + "{\"id\":2,\"priority\":\"NORMAL\",\"actions\":[]},{\"id\":3,\"actions\":[]},"
+                + "{\"id\":3,\"priority\":\"Critical\",\"actions\":[]}]}");
+
+        assertEquals(CompiledSignal.Priority.CRITICAL, plan.lookup(1).getPriority());
+        assertEquals(CompiledSignal.Priority.NORMAL, plan.lookup(2).getPriority());
+        assertEquals(CompiledSignal.Priority.CRITICAL, plan.lookup(3).getPriority());
+        assertThrows(IllegalArgumentException.class, () -> compile("{\"signals\":[{\"id\":1,\"priority\":\"high\"}]}"));
+        assertThrows(IllegalArgumentException.class, () -> compile("{\"signals\":[{\"id\":1,\"priority\":\"normal\"},"
+                + "{\"id\":1,\"priority\":\"critical\"}]}"));
+    }
+
+    @Test
+    void shouldResolveActionsAgainstAlgo() throws Exception {
+        SignalPlan plan = compile("{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"},"
+                + "{\"method\":\"setAlgoParam\",\"params\":[1,\"x\"]},{\"method\":\"test\"}]}]}");
+
+        List<SignalAction> actions = plan.lookup(1).getActions();
+        assertEquals(SignalAction.Status.OK, actions.get(0).getStatus());
+        assertNull(actions.get(0).getFailure());
+        assertEquals(SignalAction.Status.NO_MATCHING_OVERLOAD, actions.get(1).getStatus());
+        assertEquals(SignalAction.Status.NO_SUCH_METHOD, actions.get(2).getStatus());
+        assertEquals("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.test()",
+                actions.get(2).getFailure().getMessage());
+    }
+
+    @Test
+    void shouldResolveEveryActionOnceForTheCompiler() throws Exception {
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        List<Logger> loggers = List.of((Logger) LoggerFactory.getLogger(SignalPlan.class),
+                (Logger) LoggerFactory.getLogger(SignalExecutorCompiler.class));
+        loggers.forEach(logger -> logger.addAppender(appender));
+        SignalPlan plan;
+        try {
+            plan = SignalPlans.parse("{\"signals\":[{\"id\":1,\"actions\":["
+                    + "{\"method\":\"setAlgoParam\",\"params\":[1,60]},{\"method\":\"test\"}]},"
+                    + "{\"id\":2,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1.5,2]}]},"
+                    + "{\"id\":3,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,60]}]}]}",
+                    new SignalExecutorCompiler());
+        } finally {
+            loggers.forEach(logger -> logger.detachAppender(appender));
+        }
+
+        assertEquals(List.of("Signal 1 fails at action test, Algo has no such method.",
+                        "Signal 2 skips action setAlgoParam, no overload matches the arguments."),
+                appender.list.stream().filter(event -> event.getLevel() == Level.WARN)
+                        .map(ILoggingEvent::getFormattedMessage).toList());
+        assertNull(plan.lookup(1).getExecutor());
+        assertNull(plan.lookup(2).getExecutor());
+        assertNotNull(plan.lookup(3).getExecutor());
+        assertEquals(Algo.class.getMethod("setAlgoParam", int.class, int.class),
+                plan.lookup(3).getActions().get(0).getResolvedMethod());
+    }
+}
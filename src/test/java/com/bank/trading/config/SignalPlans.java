@@ -0,0 +1,40 @@
+package com.bank.trading.config;
+
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compiles the signal configurations of the tests through {@link SignalConfigParser}.
+ */
+public final class SignalPlans {
+
+    private SignalPlans() {
+    }
+
+    /**
+     * Compiles a configuration into a plan that is executed through reflection.
+     *
+     * @param json The JSON signal configuration.
+     * @return The compiled plan.
+     * @throws IOException If the configuration is not valid JSON.
+     */
+    public static SignalPlan parse(String json) throws IOException {
+        return parse(json, null);
+    }
+
+    /**
+     * Compiles a configuration into a plan.
+     *
+     * @param json             The JSON signal configuration.
+     * @param executorCompiler The compiler used to generate executors, or null to execute through reflection.
+     * @return The compiled plan.
+     * @throws IOException If the configuration is not valid JSON.
+     */
+    public static SignalPlan parse(String json, SignalExecutorCompiler executorCompiler) throws IOException {
+        return SignalConfigParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "test",
+                executorCompiler);
+    }
+}
@@ -0,0 +1,168 @@
+package com.bank.trading.console;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.ConsoleAppender;
+import com.bank.trading.config.TradingProperties.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncConsoleTest {
+
+    private static final String NL = System.lineSeparator();
+
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void captureOut() {
+        originalOut = System.out;
+    }
+
+    @AfterEach
+    void restoreOut() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void shouldWriteOutputInOrderAndRestoreSystemOut() throws InterruptedException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(bytes, true, Charset.defaultCharset());
+        System.setOut(target);
+        AsyncConsole console = new AsyncConsole(16, OverflowPolicy.BLOCK);
+        console.start();
+        assertInstanceOf(AsyncConsoleStream.class, System.out);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> IntStream.range(0, 1000).forEach(i -> System.out.println(thread + ":" + i))));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.print("x=");
+        System.out.println(42);
+        System.out.printf("%s%n", "ü");
+        System.out.write('!');
+        console.stop();
+
+        assertSame(target, System.out);
+        assertEquals(0, console.getDroppedCount());
+        assertEquals(0, console.getQueueDepth());
+        String[] lines = bytes.toString(Charset.defaultCharset()).split(NL, -1);
+        assertEquals(4003, lines.length);
+        for (int t = 0; t < 4; t++) {
+            String prefix = t + ":";
+            List<String> own = IntStream.range(0, 4000).mapToObj(i -> lines[i]).filter(line -> line.startsWith(prefix))
+                    .collect(Collectors.toList());
+            assertEquals(IntStream.range(0, 1000).mapToObj(i -> prefix + i).collect(Collectors.toList()), own);
+        }
+        assertEquals("x=42", lines[4000]);
+        assertEquals(new String("ü".getBytes(Charset.defaultCharset()), Charset.defaultCharset()), lines[4001]);
+        assertEquals("!", lines[4002]);
+
+        System.out.println("after stop");
+        assertTrue(bytes.toString(Charset.defaultCharset()).endsWith("after stop" + NL));
+    }
+
+    @Test
+    void shouldNotLoseLinesPrintedWhileStopping() throws InterruptedException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(bytes, true, Charset.defaultCharset());
+        System.setOut(target);
+        AsyncConsole console = new AsyncConsole(64, OverflowPolicy.BLOCK);
+        console.start();
+        PrintStream stream = System.out;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> IntStream.range(0, 20_000).forEach(i -> stream.println("line"))));
+        }
+        threads.forEach(Thread::start);
+        console.stop();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Lines printed after the stop are written synchronously, none are lost
+        assertEquals(80_000, bytes.toString(Charset.defaultCharset()).split(NL).length);
+    }
+
+    @Test
+    void shouldReplaceOnlyTheConsoleAppenderWhileRunning() {
+        Logger root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> before = appenders(root);
+        assertTrue(before.stream().anyMatch(appender -> appender instanceof ConsoleAppender));
+        AsyncConsole console = new AsyncConsole(16, OverflowPolicy.BLOCK);
+        console.start();
+
+        List<Appender<ILoggingEvent>> running = appenders(root);
+        assertEquals(before.size(), running.size());
+        assertTrue(running.stream().anyMatch(appender -> appender instanceof AsyncConsoleAppender));
+        assertTrue(running.stream().noneMatch(appender -> appender instanceof ConsoleAppender));
+        console.stop();
+
+        assertEquals(before, appenders(root));
+    }
+
+    private static List<Appender<ILoggingEvent>> appenders(Logger logger) {
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        logger.iteratorForAppenders().forEachRemaining(appenders::add);
+        return appenders;
+    }
+
+    @Test
+    void shouldDropAndCountLinesWhenFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream slow = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                bytes.write(b, off, len);
+            }
+        };
+        System.setOut(new PrintStream(slow, false, Charset.defaultCharset()));
+        AsyncConsole console = new AsyncConsole(4, OverflowPolicy.DROP);
+        console.start();
+
+        System.out.println("first");
+        blocked.await();
+        for (int i = 0; i < 10; i++) {
+            System.out.println("line " + i);
+        }
+        assertEquals(6, console.getDroppedCount());
+        release.countDown();
+        console.stop();
+
+        assertTrue(bytes.toString(Charset.defaultCharset())
+                .startsWith(String.join(NL, "first", "line 0", "line 1", "line 2", "line 3", "")));
+    }
+}
@@ -0,0 +1,71 @@
+package com.bank.trading.controller;
+
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import com.bank.trading.config.TradingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SignalPlan plan(String json) throws Exception {
+        return SignalPlans.parse(json);
+    }
+
+    private SignalResponseWriter writer(SignalPlanHolder holder, TradingProperties.ResponseMode mode) {
+        TradingProperties properties = new TradingProperties();
+        properties.getResponse().setMode(mode);
+        return new SignalResponseWriter(objectMapper, holder, properties);
+    }
+
+    @Test
+    void shouldWriteCachedResponseOfConfiguredSignals() throws Exception {
+        SignalPlanHolder holder = new SignalPlanHolder(plan("{\"signals\":[{\"id\":1,\"actions\":[]}]}"));
+        SignalResponseWriter writer = writer(holder, TradingProperties.ResponseMode.JSON);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(1, response);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("{\"message\":\"Signal 1 processed.\"}", response.getContentAsString(StandardCharsets.UTF_8));
+        assertSame(writer.body(1), writer.body(1));
+        assertNotSame(writer.body(7), writer.body(7));
+        assertEquals("{\"message\":\"Signal 7 processed.\"}", new String(writer.body(7), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldReplaceCacheWhenPlanIsPublished() throws Exception {
+        SignalPlanHolder holder = new SignalPlanHolder(plan("{\"signals\":[{\"id\":1,\"actions\":[]}]}"));
+        SignalResponseWriter writer = writer(holder, TradingProperties.ResponseMode.JSON);
+        byte[] before = writer.body(1);
+
+        holder.publish(plan("{\"signals\":[{\"id\":2,\"actions\":[]},{\"id\":1,\"actions\":[]}]}"));
+
+        assertNotSame(before, writer.body(1));
+        assertArrayEquals(before, writer.body(1));
+        assertSame(writer.body(2), writer.body(2));
+    }
+
+    @Test
+    void shouldAnswerWithNoContent() throws Exception {
+        SignalPlanHolder holder = new SignalPlanHolder(plan("{\"signals\":[{\"id\":1,\"actions\":[]}]}"));
+        SignalResponseWriter writer = writer(holder, TradingProperties.ResponseMode.NO_CONTENT);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(1, response);
+
+        assertEquals(HttpStatus.NO_CONTENT.value(), response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(HttpStatus.NO_CONTENT, writer.entity(1).getStatusCode());
+    }
+}
@@ -0,0 +1,42 @@
+package com.bank.trading.controller;
+
+import com.bank.trading.pipeline.SignalAdmissionController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"trading.admission.enabled=true", "trading.admission.rate=0.01",
+        "trading.admission.burst=1"})
+@AutoConfigureMockMvc
+class TradingControllerAdmissionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SignalAdmissionController signalAdmissionController;
+
+    @Test
+    void testReceiveSignal_ShedWith429AndCriticalSignalsBypass() throws Exception {
+        mockMvc.perform(post("/signal/{id}", 1))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/signal/{id}", 3))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorMessage").value("Signal rate exceeded, try again later."));
+        mockMvc.perform(post("/signal/{id}", 2))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Signal 2 processed."));
+        mockMvc.perform(post("/signal/{id}", 99))
+                .andExpect(status().isOk());
+
+        assertEquals(1, signalAdmissionController.getShedCount(SignalAdmissionController.ShedReason.RATE_LIMIT));
+        assertEquals(2, signalAdmissionController.getBypassedCount());
+    }
+}
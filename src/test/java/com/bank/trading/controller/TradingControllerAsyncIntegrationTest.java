@@ -0,0 +1,69 @@
+package com.bank.trading.controller;
+
+import com.bank.trading.service.SignalRequestExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "trading.async.enabled=true")
+@AutoConfigureMockMvc
+class TradingControllerAsyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testReceiveSignal_Async() throws Exception {
+        MvcResult result = mockMvc.perform(post("/signal/{id}", 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Signal 1 processed."));
+    }
+
+    @Test
+    void testReceiveSignal_AsyncErr() throws Exception {
+        MvcResult result = mockMvc.perform(post("/signal/{id}", 4))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()"));
+    }
+
+    @Test
+    void shouldRejectSignalsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SignalRequestExecutor executor = new SignalRequestExecutor(signal -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, 1);
+        try {
+            executor.submit(1);
+            executor.submit(2);
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(3));
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.trading.controller;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.pipeline.SignalConflator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"trading.conflation.enabled=true", "trading.pipeline.enabled=true"})
+@AutoConfigureMockMvc
+class TradingControllerConflationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SignalConflator signalConflator;
+
+    @Autowired
+    private SignalHandler signalHandler;
+
+    @Test
+    void testReceiveSignal_ThroughConflatorAndPipeline() throws Exception {
+        assertTrue(signalConflator.isRunning());
+
+        mockMvc.perform(post("/signal/{id}", 2))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Signal 2 processed."));
+    }
+
+    @Test
+    void testReceiveSignal_ConflatedErr() throws Exception {
+        signalHandler.handleSignal(1);
+
+        mockMvc.perform(post("/signal/{id}", 4))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()"));
+    }
+}
@@ -1,16 +1,22 @@
 package com.bank.trading.controller;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
  class TradingControllerIntegrationTest {
 
     @Autowired
@@ -39,4 +45,77 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 .andExpect(jsonPath("$.errorMessage").value("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()"));
 
     }
+
+    @Test
+    void testReceiveSignals_Batch() throws Exception {
+        mockMvc.perform(post("/signals").contentType(MediaType.APPLICATION_JSON).content("[1, 5, 4, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(3))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].signalId").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("PROCESSED"))
+                .andExpect(jsonPath("$.results[1].signalId").value(5))
+                .andExpect(jsonPath("$.results[2].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].errorMessage").value("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()"))
+                .andExpect(jsonPath("$.results[3].status").value("PROCESSED"));
+    }
+
+    @Test
+    void testReceiveSignals_BatchWithInvalidItems() throws Exception {
+        mockMvc.perform(post("/signals").contentType(MediaType.APPLICATION_JSON).content("[1, \"x\", {\"id\": 2}, 9999999999, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].status").value("PROCESSED"))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].signalId").doesNotExist())
+                .andExpect(jsonPath("$.results[1].errorMessage").value("Invalid signal ID x."))
+                .andExpect(jsonPath("$.results[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[3].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[4].signalId").value(2))
+                .andExpect(jsonPath("$.results[4].status").value("PROCESSED"));
+    }
+
+    @Test
+    void testReceiveSignals_NotAnArray() throws Exception {
+        mockMvc.perform(post("/signals").contentType(MediaType.APPLICATION_JSON).content("{\"id\": 1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testReceiveSignals_Stream() throws Exception {
+        mockMvc.perform(post("/signals").contentType(MediaType.APPLICATION_NDJSON).content("1\n4\n-1\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"signalId\":1,\"status\":\"PROCESSED\"}\n"
+                        + "{\"signalId\":4,\"status\":\"FAILED\",\"errorMessage\":\"Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()\"}\n"
+                        + "{\"signalId\":-1,\"status\":\"PROCESSED\"}\n"));
+    }
+
+    @Test
+    void testReceiveSignals_StreamWithInvalidItem() throws Exception {
+        mockMvc.perform(post("/signals").contentType(MediaType.APPLICATION_NDJSON).content("1\n\"x\"\n2\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"signalId\":1,\"status\":\"PROCESSED\"}\n"
+                        + "{\"status\":\"INVALID\",\"errorMessage\":\"Invalid signal ID x.\"}\n"
+                        + "{\"signalId\":2,\"status\":\"PROCESSED\"}\n"));
+    }
+
+    @Test
+    void testPrometheusEndpoint_ExposesSignalMetrics() throws Exception {
+        mockMvc.perform(post("/signal/{id}", 2)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("trading_signal_latency_seconds_count{signal=\"2\"")))
+                .andExpect(content().string(containsString("trading_action_latency_seconds_bucket{method=\"reverse\"")))
+                .andExpect(content().string(containsString("trading_signal_fallbacks_total")));
+    }
+
+    @Test
+    void testReadinessProbe_UpAfterWarmup() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
 }
@@ -0,0 +1,40 @@
+package com.bank.trading.controller;
+
+import com.bank.trading.pipeline.ShardedSignalHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"trading.sharding.enabled=true", "trading.sharding.shards=3"})
+@AutoConfigureMockMvc
+class TradingControllerShardingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShardedSignalHandler shardedSignalHandler;
+
+    @Test
+    void testReceiveSignal_WithShardKey() throws Exception {
+        assertEquals(3, shardedSignalHandler.getShardCount());
+
+        mockMvc.perform(post("/signal/{id}", 2).param("shardKey", "EURUSD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Signal 2 processed."));
+    }
+
+    @Test
+    void testReceiveSignal_WithoutShardKeyErr() throws Exception {
+        mockMvc.perform(post("/signal/{id}", 4))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()"));
+    }
+}
@@ -0,0 +1,188 @@
+package com.bank.trading.ingress;
+
+import com.bank.trading.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedMemorySignalServerTest {
+
+    private final List<Integer> handled = new CopyOnWriteArrayList<>();
+
+    @TempDir
+    Path directory;
+
+    private SharedMemorySignalServer server(Path file) {
+        return server(file, 6);
+    }
+
+    private SharedMemorySignalServer server(Path file, int capacity) {
+        return new SharedMemorySignalServer(signal -> {
+            if (signal == 4) {
+                throw new ResourceNotFoundException("Resource or Method Not found.");
+            }
+            if (signal < 0) {
+                throw new StackOverflowError();
+            }
+            handled.add(signal);
+        }, file, capacity, false);
+    }
+
+    @Test
+    void shouldHandleSignalsInOrderAndWriteBackStatuses() throws IOException {
+        Path file = directory.resolve("signals.ring");
+        SharedMemorySignalServer server = server(file);
+        server.start();
+        try {
+            assertEquals(IpcRingFormat.fileSize(8), Files.size(file));
+            SharedMemorySignalClient client = new SharedMemorySignalClient(file);
+            assertEquals(8, client.getCapacity());
+            assertEquals(IpcRingFormat.STATUS_PROCESSED, client.send(1));
+            assertEquals(IpcRingFormat.STATUS_FAILED, client.send(4));
+
+            List<Long> sequences = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                long sequence;
+                while ((sequence = client.offer(i % 5, i)) < 0) {
+                    Thread.yield();
+                }
+                sequences.add(sequence);
+            }
+            long last = sequences.get(sequences.size() - 1);
+            while (!client.isCompleted(last)) {
+                Thread.yield();
+            }
+            assertEquals(IpcRingFormat.STATUS_FAILED, client.status(last));
+            assertEquals(List.of(2L, 3L, 1001L), List.of(sequences.get(0), sequences.get(1), last));
+        } finally {
+            server.stop();
+        }
+        List<Integer> expected = new ArrayList<>(List.of(1));
+        IntStream.range(0, 1000).filter(i -> i % 5 != 4).forEach(i -> expected.add(i % 5));
+        assertEquals(expected, handled);
+    }
+
+    @Test
+    void shouldResumeSignalsPublishedWhileStopped() throws IOException {
+        Path file = directory.resolve("signals.ring");
+        SharedMemorySignalServer server = server(file);
+        server.start();
+        SharedMemorySignalClient client = new SharedMemorySignalClient(file);
+        client.send(1);
+        server.stop();
+
+        long first = client.offer(2, 0);
+        long second = client.offer(3, 0);
+        assertFalse(client.isCompleted(first));
+        for (int i = 2; i < client.getCapacity(); i++) {
+            assertTrue(client.offer(5, 0) >= 0);
+        }
+        assertEquals(-1, client.offer(5, 0));
+
+        server = server(file);
+        server.start();
+        try {
+            while (!client.isCompleted(second)) {
+                Thread.yield();
+            }
+            assertEquals(IpcRingFormat.STATUS_PROCESSED, client.status(first));
+            assertEquals(List.of(1, 2, 3), handled.subList(0, 3));
+            assertEquals(IpcRingFormat.STATUS_PROCESSED, client.send(9));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void shouldRejectUninitializedRingFile() throws IOException {
+        Path file = Files.write(directory.resolve("other.ring"), new byte[IpcRingFormat.HEADER_SIZE]);
+        assertThrows(IllegalStateException.class, () -> new SharedMemorySignalClient(file));
+    }
+
+    @Test
+    void shouldSurviveErrorsOfTheHandler() throws IOException {
+        Path file = directory.resolve("signals.ring");
+        SharedMemorySignalServer server = server(file);
+        server.start();
+        try {
+            SharedMemorySignalClient client = new SharedMemorySignalClient(file);
+            assertEquals(IpcRingFormat.STATUS_FAILED, client.send(-1));
+            assertEquals(IpcRingFormat.STATUS_PROCESSED, client.send(1));
+            assertTrue(server.isRunning());
+        } finally {
+            server.stop();
+        }
+        assertEquals(List.of(1), handled);
+    }
+
+    @Test
+    void shouldFailTheRingWhenItsCountersAreCorrupt() throws Exception {
+        Path file = directory.resolve("signals.ring");
+        SharedMemorySignalServer server = server(file);
+        server.start();
+        try {
+            SharedMemorySignalClient client = new SharedMemorySignalClient(file);
+            client.send(1);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer ring = channel.map(FileChannel.MapMode.READ_WRITE, 0, Files.size(file));
+                ring.order(ByteOrder.LITTLE_ENDIAN);
+                // published behind completed, e.g. after another producer re-created the file
+                IpcRingFormat.LONG.setRelease(ring, IpcRingFormat.PUBLISHED_OFFSET, 0L);
+            }
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (server.isRunning() && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+            assertFalse(server.isRunning());
+            assertTrue(client.isFailed());
+            assertThrows(IllegalStateException.class, () -> client.send(2));
+            assertThrows(IllegalStateException.class, () -> new SharedMemorySignalClient(file));
+            assertThrows(IllegalStateException.class, () -> server(file).start());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void shouldRefuseRingFileOfAnotherCapacity() throws IOException {
+        Path file = directory.resolve("signals.ring");
+        SharedMemorySignalServer server = server(file);
+        server.start();
+        SharedMemorySignalClient client = new SharedMemorySignalClient(file);
+        client.send(1);
+        server.stop();
+        long pending = client.offer(2, 0);
+        byte[] content = Files.readAllBytes(file);
+
+        assertThrows(IllegalStateException.class, () -> server(file, 16).start());
+        assertArrayEquals(content, Files.readAllBytes(file));
+        assertFalse(client.isCompleted(pending));
+    }
+
+    @Test
+    void shouldTimeOutWhileTheAppIsDown() throws IOException {
+        Path file = directory.resolve("signals.ring");
+        SharedMemorySignalServer server = server(file);
+        server.start();
+        SharedMemorySignalClient client = new SharedMemorySignalClient(file);
+        server.stop();
+
+        assertThrows(TimeoutException.class, () -> client.send(1, Duration.ofMillis(20)));
+        assertFalse(client.isFailed());
+    }
+}
@@ -0,0 +1,112 @@
+package com.bank.trading.ingress;
+
+import com.bank.trading.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TcpSignalServerTest {
+
+    private final List<Integer> handled = new CopyOnWriteArrayList<>();
+    private TcpSignalServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new TcpSignalServer(signal -> {
+            if (signal == 4) {
+                throw new ResourceNotFoundException("Resource or Method Not found.");
+            }
+            if (signal < 0) {
+                throw new StackOverflowError();
+            }
+            handled.add(signal);
+        }, new InetSocketAddress("127.0.0.1", 0), 64);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldAckPipelinedFramesInOrder() throws IOException {
+        int frames = 1000;
+        try (SocketChannel client = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getPort()))) {
+            ByteBuffer request = ByteBuffer.allocate(frames * TcpSignalServer.FRAME_SIZE);
+            for (int i = 0; i < frames; i++) {
+                request.putLong(1000L + i).putInt(i % 5).putInt(0);
+            }
+            request.flip();
+            while (request.hasRemaining()) {
+                client.write(request);
+            }
+
+            ByteBuffer acks = ByteBuffer.allocate(frames * TcpSignalServer.FRAME_SIZE);
+            while (acks.hasRemaining()) {
+                assertTrue(client.read(acks) >= 0);
+            }
+            acks.flip();
+            for (int i = 0; i < frames; i++) {
+                assertEquals(1000L + i, acks.getLong());
+                assertEquals(i % 5, acks.getInt());
+                assertEquals(i % 5 == 4 ? TcpSignalServer.STATUS_FAILED : TcpSignalServer.STATUS_PROCESSED, acks.getInt());
+            }
+        }
+        assertEquals(800, handled.size());
+    }
+
+    @Test
+    void shouldSurviveErrorsOfTheHandler() throws IOException {
+        try (SocketChannel client = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getPort()))) {
+            ByteBuffer request = ByteBuffer.allocate(2 * TcpSignalServer.FRAME_SIZE);
+            request.putLong(1).putInt(-1).putInt(0).putLong(2).putInt(3).putInt(0).flip();
+            while (request.hasRemaining()) {
+                client.write(request);
+            }
+
+            ByteBuffer acks = ByteBuffer.allocate(2 * TcpSignalServer.FRAME_SIZE);
+            while (acks.hasRemaining()) {
+                assertTrue(client.read(acks) >= 0);
+            }
+            acks.flip();
+            assertEquals(1, acks.getLong());
+            assertEquals(-1, acks.getInt());
+            assertEquals(TcpSignalServer.STATUS_FAILED, acks.getInt());
+            assertEquals(2, acks.getLong());
+            assertEquals(3, acks.getInt());
+            assertEquals(TcpSignalServer.STATUS_PROCESSED, acks.getInt());
+        }
+        assertTrue(server.isRunning());
+        assertEquals(List.of(3), handled);
+    }
+
+    @Test
+    void shouldHandleFramesSplitAcrossWrites() throws Exception {
+        try (SocketChannel client = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getPort()))) {
+            ByteBuffer frame = ByteBuffer.allocate(TcpSignalServer.FRAME_SIZE).putLong(7).putInt(3).putInt(0).flip();
+            client.write(frame.limit(5));
+            Thread.sleep(50);
+            client.write(frame.limit(TcpSignalServer.FRAME_SIZE));
+
+            ByteBuffer ack = ByteBuffer.allocate(TcpSignalServer.FRAME_SIZE);
+            while (ack.hasRemaining()) {
+                assertTrue(client.read(ack) >= 0);
+            }
+            ack.flip();
+            assertEquals(7, ack.getLong());
+            assertEquals(3, ack.getInt());
+            assertEquals(TcpSignalServer.STATUS_PROCESSED, ack.getInt());
+        }
+        assertEquals(List.of(3), handled);
+    }
+}
@@ -0,0 +1,121 @@
+package com.bank.trading.jfr;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import com.bank.trading.exception.ResourceNotFoundException;
+import com.bank.trading.service.SignalProcessor;
+import jdk.jfr.Configuration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SignalFlightRecorderTest {
+
+    private static final String CONFIG = "{\"signals\":["
+            + "{\"id\":1,\"actions\":[{\"method\":\"setUp\"},{\"method\":\"setAlgoParam\",\"params\":[1,60]},"
+            + "{\"method\":\"performCalc\"}]},"
+            + "{\"id\":2,\"actions\":[{\"method\":\"reverse\"},{\"method\":\"missing\"}]}]}";
+
+    @TempDir
+    Path directory;
+
+    private Algo algo;
+    private SignalProcessor signalProcessor;
+    private SignalFlightRecorder recorder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        algo = mock(Algo.class);
+        // performCalc is slower than the threshold of the invocation events, the other calls are not
+        doAnswer(invocation -> {
+            Thread.sleep(2);
+            return null;
+        }).when(algo).performCalc();
+        SignalPlan plan = SignalPlans.parse(CONFIG);
+        signalProcessor = new SignalProcessor(algo, new SignalPlanHolder(plan), new AlgoMethodInvoker());
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("/trading.jfc"),
+                StandardCharsets.UTF_8)) {
+            recorder = new SignalFlightRecorder(Configuration.create(reader), directory.resolve("trading.jfr"),
+                    Duration.ofMinutes(5), 64 * 1024 * 1024);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.stop();
+    }
+
+    @Test
+    void shouldRecordSignalsAndSlowAlgoCalls() throws Exception {
+        recorder.start();
+        assertTrue(recorder.isRunning());
+        signalProcessor.handleSignal(1);
+        assertThrows(ResourceNotFoundException.class, () -> signalProcessor.handleSignal(2));
+        // Signal 9 is not configured and cancels all trades
+        signalProcessor.handleSignal(9);
+        recorder.stop();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(directory.resolve("trading.jfr"));
+        List<RecordedEvent> signals = events.stream()
+                .filter(event -> event.getEventType().getName().equals(SignalEvent.NAME))
+                .toList();
+        assertEquals(3, signals.size());
+        assertSignal(signals.get(0), 1, true, 3, false);
+        assertSignal(signals.get(1), 2, true, 2, true);
+        assertSignal(signals.get(2), 9, false, 0, false);
+        assertTrue(signals.get(0).getDuration().toMillis() >= 2);
+
+        List<RecordedEvent> invocations = events.stream()
+                .filter(event -> event.getEventType().getName().equals(AlgoInvocationEvent.NAME))
+                .toList();
+        // Only calls above the threshold are recorded; the first calls of a method may take that long as well
+        assertTrue(invocations.stream().allMatch(event -> event.getDuration().toNanos() >= 100_000));
+        invocations = invocations.stream().filter(event -> event.getString("method").equals("performCalc")).toList();
+        assertEquals(1, invocations.size());
+        assertEquals("performCalc", invocations.get(0).getString("method"));
+        assertEquals(0, invocations.get(0).getInt("argumentCount"));
+        assertEquals(AlgoInvocationEvent.OUTCOME_OK, invocations.get(0).getString("outcome"));
+
+        // The default settings of the JDK are recorded as well
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("jdk.JVMInformation")));
+    }
+
+    @Test
+    void shouldNotCreateEventsWithoutRecording() {
+        assertNull(SignalEvent.beginIfEnabled());
+        assertNull(AlgoInvocationEvent.beginIfEnabled());
+
+        recorder.start();
+        assertNotNull(SignalEvent.beginIfEnabled());
+        assertNotNull(AlgoInvocationEvent.beginIfEnabled());
+
+        recorder.stop();
+        assertFalse(recorder.isRunning());
+        assertNull(SignalEvent.beginIfEnabled());
+    }
+
+    private static void assertSignal(RecordedEvent event, int signalId, boolean configured, int actionCount,
+                                     boolean failed) {
+        assertEquals(signalId, event.getInt("signalId"));
+        assertEquals(configured, event.getBoolean("configured"));
+        assertEquals(actionCount, event.getInt("actionCount"));
+        assertFalse(event.getBoolean("compiled"));
+        assertEquals(failed, event.getBoolean("failed"));
+    }
+}
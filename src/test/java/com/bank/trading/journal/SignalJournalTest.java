@@ -0,0 +1,130 @@
+package com.bank.trading.journal;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import com.bank.trading.config.TradingProperties.FsyncPolicy;
+import com.bank.trading.config.TradingProperties.OverflowPolicy;
+import com.bank.trading.exception.ResourceNotFoundException;
+import com.bank.trading.service.SignalProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SignalJournalTest {
+
+    private static final String CONFIG = "{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[1,60]}]},{\"id\":4,\"actions\":[{\"method\":\"setAlgoParam\"}]}]}";
+
+    @TempDir
+    Path directory;
+
+    private SignalJournal journal(long segmentSize, FsyncPolicy fsyncPolicy) {
+        return new SignalJournal(directory, segmentSize, 16, fsyncPolicy, Duration.ofMillis(10), OverflowPolicy.BLOCK);
+    }
+
+    private SignalProcessor processor(SignalJournal journal) throws IOException {
+        SignalPlan plan = SignalPlans.parse(CONFIG);
+        return new SignalProcessor(mock(Algo.class), new SignalPlanHolder(plan), new AlgoMethodInvoker(), journal);
+    }
+
+    private List<JournalRecord> readAll() throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        SignalJournalReader.read(directory, records::add);
+        return records;
+    }
+
+    @Test
+    void shouldJournalSignalsAndActions() throws IOException {
+        SignalJournal journal = journal(1024 * 1024, FsyncPolicy.ALWAYS);
+        journal.start();
+        SignalProcessor processor = processor(journal);
+        processor.handleSignal(1);
+        processor.handleSignal(9);
+        assertThrows(ResourceNotFoundException.class, () -> processor.handleSignal(4));
+        journal.stop();
+
+        List<JournalRecord> records = readAll();
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), records.stream().map(JournalRecord::sequence).toList());
+        assertEquals(List.of(1, 1, 1, 9, 4, 4), records.stream().map(JournalRecord::signalId).toList());
+        assertEquals(List.of(0, 1, -1, -1, 0, -1), records.stream().map(JournalRecord::actionIndex).toList());
+        assertEquals(JournalFormat.TYPE_ACTION, records.get(0).type());
+        assertEquals(JournalFormat.TYPE_SIGNAL, records.get(2).type());
+        assertEquals(JournalFormat.TYPE_UNKNOWN_SIGNAL, records.get(3).type());
+        assertTrue(records.get(4).isFailed());
+        assertTrue(records.get(5).isFailed());
+        assertFalse(records.get(2).isFailed());
+        assertTrue(records.get(2).timestamp() <= records.get(3).timestamp());
+        assertTrue(Math.abs(records.get(0).timestamp() / 1_000_000 - System.currentTimeMillis()) < 60_000);
+    }
+
+    @Test
+    void shouldRollOverSegmentsAndContinueSequenceAfterRestart() throws IOException {
+        long segmentSize = JournalFormat.HEADER_SIZE + 4 * JournalFormat.RECORD_SIZE;
+        SignalJournal journal = journal(segmentSize, FsyncPolicy.INTERVAL);
+        journal.start();
+        for (int i = 0; i < 10; i++) {
+            journal.onSignal(null, null, i, 1_000, false);
+        }
+        journal.stop();
+
+        SignalJournal restarted = journal(segmentSize, FsyncPolicy.NONE);
+        restarted.start();
+        restarted.onSignal(null, null, 10, 1_000, false);
+        restarted.stop();
+
+        assertEquals(4, SignalJournalReader.segments(directory).size());
+        List<JournalRecord> records = readAll();
+        assertEquals(LongStream.range(0, 11).boxed().toList(), records.stream().map(JournalRecord::sequence).toList());
+        assertEquals(10, records.get(10).signalId());
+    }
+
+    @Test
+    void shouldDropRecordsWhenNotRunning() {
+        SignalJournal journal = journal(1024 * 1024, FsyncPolicy.NONE);
+
+        journal.onSignal(null, null, 1, 1_000, false);
+
+        assertEquals(1, journal.getDroppedCount());
+    }
+
+    @Test
+    void shouldCountRecordsDroppedAfterTheWriterFailed() throws IOException {
+        SignalJournal journal = journal(JournalFormat.HEADER_SIZE + 4 * JournalFormat.RECORD_SIZE, FsyncPolicy.ALWAYS);
+        journal.start();
+        // The writer cannot roll over to the second segment
+        Files.createFile(directory.resolve(JournalFormat.fileName(1)));
+        for (int i = 0; i < 10; i++) {
+            journal.onSignal(null, null, i, 1_000, false);
+        }
+        while (!journal.isWriterFailed()) {
+            Thread.yield();
+        }
+        journal.onSignal(null, null, 10, 1_000, false);
+        assertTrue(journal.isRunning());
+        journal.stop();
+
+        assertFalse(journal.isRunning());
+        assertEquals(7, journal.getDroppedCount());
+        List<JournalRecord> records = new ArrayList<>();
+        Path first = directory.resolve(JournalFormat.fileName(0));
+        try (SignalJournalReader reader = new SignalJournalReader(List.of(first))) {
+            for (JournalRecord record = reader.next(); record != null; record = reader.next()) {
+                records.add(record);
+            }
+        }
+        assertEquals(List.of(0, 1, 2, 3), records.stream().map(JournalRecord::signalId).toList());
+    }
+}
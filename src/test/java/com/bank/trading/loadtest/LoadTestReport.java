@@ -0,0 +1,100 @@
+package com.bank.trading.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a load test.
+ *
+ * @param targetRate     The target rate in requests per second.
+ * @param connections    The number of connections of the generator.
+ * @param requests       The number of requests sent after the warm-up.
+ * @param unknown        The number of those requests with a signal ID that is not configured.
+ * @param failures       The number of requests without a 2xx response.
+ * @param statuses       The number of requests per HTTP status, 0 for requests without a response.
+ * @param elapsedNanos   The time from the end of the warm-up until the last response.
+ * @param durationNanos  The time during which requests were scheduled after the warm-up.
+ * @param latencies      The latencies from the scheduled time of a request to its response in nanoseconds, corrected
+ *                       for coordinated omission.
+ * @param serviceTimes   The times from sending a request to its response in nanoseconds.
+ */
+public record LoadTestReport(double targetRate, int connections, long requests, long unknown, long failures,
+                             Map<Integer, Long> statuses, long elapsedNanos, long durationNanos, Histogram latencies,
+                             Histogram serviceTimes) {
+
+    /**
+     * Returns the number of responses per second.
+     *
+     * @return The achieved throughput.
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : requests * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the share of requests without a 2xx response.
+     *
+     * @return The error rate, from 0 to 1.
+     */
+    public double errorRate() {
+        return requests == 0 ? 0 : failures / (double) requests;
+    }
+
+    /**
+     * Writes the report and the percentile distribution of the latencies, which can be plotted with the HdrHistogram
+     * plotter (in microseconds), to the given directory.
+     *
+     * @param directory The directory, which is created if it does not exist.
+     * @param name      The base name of the files.
+     * @return The report file.
+     * @throws IOException If the files cannot be written.
+     */
+    public Path write(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        Path report = directory.resolve(name + ".txt");
+        Files.writeString(report, toString(), StandardCharsets.UTF_8);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")), false,
+                StandardCharsets.UTF_8)) {
+            latencies.outputPercentileDistribution(out, 1e3);
+        }
+        return report;
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @return The multi-line report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("target:       %.0f requests/s over %d connections for %.1f s%n", targetRate,
+                connections, durationNanos / 1e9));
+        report.append(String.format("requests:     %d (%d unknown signals)%n", requests, unknown));
+        report.append(String.format("throughput:   %.0f requests/s%n", throughput()));
+        report.append(String.format("errors:       %d (%.3f %%) statuses=%s%n", failures, errorRate() * 100, statuses));
+        report.append(String.format("latency (ms): %s%n", percentiles(latencies)));
+        report.append(String.format("service (ms): %s%n", percentiles(serviceTimes)));
+        return report.toString();
+    }
+
+    /**
+     * Formats the percentiles of a histogram in milliseconds.
+     *
+     * @param histogram The histogram in nanoseconds.
+     * @return The formatted percentiles.
+     */
+    private static String percentiles(Histogram histogram) {
+        return String.format("p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f p99.99=%.3f max=%.3f",
+                histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(90) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6, histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getValueAtPercentile(99.99) / 1e6, histogram.getMaxValue() / 1e6);
+    }
+}
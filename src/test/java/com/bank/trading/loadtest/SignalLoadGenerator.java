@@ -0,0 +1,202 @@
+package com.bank.trading.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SignalLoadGenerator drives {@code POST /signal/{signalId}} open-loop at a fixed target rate.
+ * <p>
+ * Request {@code i} is scheduled at {@code start + i / rate}, independent of how fast earlier requests completed. A
+ * pool of connections takes the requests in schedule order; if all of them are busy, a request is sent late, and its
+ * latency is measured from its scheduled time rather than from the time it was actually sent. The latencies therefore
+ * include the time requests would have queued in front of a slow server, instead of hiding it behind a generator that
+ * slows down with the server (coordinated omission). The time from sending to the response is recorded separately as
+ * the service time.
+ * <p>
+ * Signal IDs are drawn from the configured IDs, with the given share of IDs that are not configured.
+ */
+public class SignalLoadGenerator {
+
+    private final URI baseUri;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int connections;
+    private final int[] knownIds;
+    private final double unknownRatio;
+    private final long seed;
+
+    /**
+     * Creates a new load generator.
+     *
+     * @param baseUri      The base URI of the application, e.g. {@code http://localhost:8080}.
+     * @param rate         The target rate in requests per second.
+     * @param warmup       The time the load is applied before latencies are recorded.
+     * @param duration     The time the load is applied while latencies are recorded.
+     * @param connections  The number of connections, each with one request in flight at a time.
+     * @param knownIds     The configured signal IDs.
+     * @param unknownRatio The share of requests, from 0 to 1, with a signal ID that is not configured.
+     * @param seed         The seed of the random signal IDs.
+     */
+    public SignalLoadGenerator(URI baseUri, double rate, Duration warmup, Duration duration, int connections,
+                               int[] knownIds, double unknownRatio, long seed) {
+        if (rate <= 0 || connections < 1 || knownIds.length == 0 && unknownRatio < 1) {
+            throw new IllegalArgumentException("Invalid load parameters.");
+        }
+        this.baseUri = baseUri;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.connections = connections;
+        this.knownIds = knownIds.clone();
+        this.unknownRatio = unknownRatio;
+        this.seed = seed;
+    }
+
+    /**
+     * Applies the load and waits until all requests have completed.
+     *
+     * @return The report of the requests sent after the warm-up.
+     * @throws InterruptedException If the current thread is interrupted.
+     */
+    public LoadTestReport run() throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long intervalNanos = (long) (1e9 / rate);
+        long start = System.nanoTime() + 10_000_000;
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong sequence = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        List<Future<Connection>> futures = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            Connection connection = new Connection(client, new SplittableRandom(seed + i));
+            futures.add(executor.submit(() -> connection.run(sequence, start, intervalNanos, measureFrom, end)));
+        }
+        executor.shutdown();
+
+        Histogram latencies = new Histogram(3);
+        Histogram serviceTimes = new Histogram(3);
+        long requests = 0;
+        long unknown = 0;
+        long failures = 0;
+        Map<Integer, Long> statuses = new TreeMap<>();
+        for (Future<Connection> future : futures) {
+            Connection connection;
+            try {
+                connection = future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load generator connection failed.", e.getCause());
+            }
+            latencies.add(connection.latencies);
+            serviceTimes.add(connection.serviceTimes);
+            requests += connection.requests;
+            unknown += connection.unknown;
+            failures += connection.failures;
+            connection.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        long elapsedNanos = Math.max(System.nanoTime(), end) - measureFrom;
+        return new LoadTestReport(rate, connections, requests, unknown, failures, statuses, elapsedNanos,
+                duration.toNanos(), latencies, serviceTimes);
+    }
+
+    /**
+     * One connection of the generator. It is only used by its own thread until it is returned.
+     */
+    private final class Connection {
+
+        private final HttpClient client;
+        private final SplittableRandom random;
+        private final Histogram latencies = new Histogram(3);
+        private final Histogram serviceTimes = new Histogram(3);
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+        private long requests;
+        private long unknown;
+        private long failures;
+
+        Connection(HttpClient client, SplittableRandom random) {
+            this.client = client;
+            this.random = random;
+        }
+
+        /**
+         * Sends the requests that are due, in schedule order, until the end of the test.
+         *
+         * @param sequence      The number of scheduled requests taken by all connections.
+         * @param start         The scheduled time of the first request.
+         * @param intervalNanos The time between two scheduled requests.
+         * @param measureFrom   The end of the warm-up.
+         * @param end           The end of the test.
+         * @return This connection, with its results.
+         */
+        Connection run(AtomicLong sequence, long start, long intervalNanos, long measureFrom, long end) {
+            while (true) {
+                long scheduled = start + sequence.getAndIncrement() * intervalNanos;
+                if (scheduled >= end) {
+                    return this;
+                }
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean isUnknown = knownIds.length == 0 || random.nextDouble() < unknownRatio;
+                int signalId = isUnknown ? -1 - random.nextInt(1_000_000) : knownIds[random.nextInt(knownIds.length)];
+                long sent = System.nanoTime();
+                int status = send(signalId);
+                long completed = System.nanoTime();
+                if (scheduled < measureFrom) {
+                    continue;
+                }
+                latencies.recordValue(completed - scheduled);
+                serviceTimes.recordValue(completed - sent);
+                requests++;
+                if (isUnknown) {
+                    unknown++;
+                }
+                if (status < 200 || status > 299) {
+                    failures++;
+                }
+                statuses.merge(status, 1L, Long::sum);
+            }
+        }
+
+        /**
+         * Sends one signal.
+         *
+         * @param signalId The ID of the trading signal.
+         * @return The HTTP status, or 0 if the request failed without a response.
+         */
+        private int send(int signalId) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/signal/" + signalId))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            try {
+                return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                return 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.trading.loadtest;
+
+import com.bank.trading.config.SignalAction;
+import com.bank.trading.config.SignalPlanHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on a random port and drives {@code POST /signal/{signalId}} with a SignalLoadGenerator. The
+ * report is logged and written to {@code target/load-test}.
+ * <p>
+ * The test only runs when a rate is given, so it is not part of the normal build. The load is set with system
+ * properties, e.g.
+ * {@code mvn test -Dtest=SignalLoadTest -Dloadtest.rate=2000 -Dloadtest.duration=60s -Dloadtest.connections=32};
+ * application properties such as {@code -Dtrading.admission.enabled=true} are applied to the application as well.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "loadtest.rate", matches = ".+")
+class SignalLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SignalPlanHolder signalPlanHolder;
+
+    @Test
+    void shouldSustainTheTargetRate() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate"));
+        Duration warmup = Duration.parse("PT" + System.getProperty("loadtest.warmup", "1s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "2s"));
+        int connections = Integer.getInteger("loadtest.connections", 8);
+        double unknownRatio = Double.parseDouble(System.getProperty("loadtest.unknown-ratio", "0.05"));
+        long seed = Long.getLong("loadtest.seed", 42);
+        double maxErrorRatio = Double.parseDouble(System.getProperty("loadtest.max-error-ratio", "0"));
+
+        SignalLoadGenerator generator = new SignalLoadGenerator(URI.create("http://localhost:" + port), rate, warmup,
+                duration, connections, knownIds(), unknownRatio, seed);
+        LoadTestReport report = generator.run();
+        Path file = report.write(Path.of("target", "load-test"), "signal-load");
+        log.info("Load test report {}{}{}", file.toAbsolutePath(), System.lineSeparator(), report);
+
+        long expected = (long) (rate * duration.toNanos() / 1e9);
+        assertTrue(Math.abs(report.requests() - expected) <= 1, "requests " + report.requests());
+        assertTrue(report.unknown() > 0);
+        assertTrue(report.failures() <= maxErrorRatio * report.requests(), "failures " + report.failures());
+        assertEquals(report.requests(), report.latencies().getTotalCount());
+    }
+
+    /**
+     * Returns the configured signals whose actions can all be executed, so that failures in the report come from the
+     * request path rather than from misconfigured signals.
+     *
+     * @return The signal IDs.
+     */
+    private int[] knownIds() {
+        IntStream.Builder ids = IntStream.builder();
+        signalPlanHolder.current().forEach(signal -> {
+            if (signal.getActions().stream().allMatch(action -> action.getStatus() == SignalAction.Status.OK)) {
+                ids.add(signal.getId());
+            }
+        });
+        return ids.build().sorted().toArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.trading.metrics;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import com.bank.trading.config.TradingProperties;
+import com.bank.trading.exception.ResourceNotFoundException;
+import com.bank.trading.service.SignalProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SignalMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private SignalPlanHolder holder;
+    private SignalProcessor signalProcessor;
+
+    private SignalPlan compile(String json) throws Exception {
+        return SignalPlans.parse(json);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        holder = new SignalPlanHolder(compile("{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"},"
+                + "{\"method\":\"setAlgoParam\",\"params\":[1,60]}]},{\"id\":4,\"actions\":[{\"method\":\"setAlgoParam\"}]}]}"));
+        TradingProperties properties = new TradingProperties();
+        properties.getMetrics().setMaxSignalTimers(1);
+        SignalMetrics metrics = new SignalMetrics(registry, holder, properties);
+        signalProcessor = new SignalProcessor(mock(Algo.class), holder, new AlgoMethodInvoker(), metrics);
+    }
+
+    @Test
+    void shouldPreRegisterMetersOfConfiguredSignals() {
+        assertNotNull(registry.find(SignalMetrics.SIGNAL_LATENCY).tag("signal", "1").timer());
+        assertNotNull(registry.find(SignalMetrics.SIGNAL_LATENCY).tag("signal", SignalMetrics.UNKNOWN_SIGNAL).timer());
+        assertNotNull(registry.find(SignalMetrics.ACTION_LATENCY).tag("method", "setAlgoParam").timer());
+        assertNotNull(registry.find(SignalMetrics.ACTION_FAILURES).tag("method", "setUp").counter());
+    }
+
+    @Test
+    void shouldRecordSignalAndActionLatencies() {
+        signalProcessor.handleSignal(1);
+        signalProcessor.handleSignal(1);
+
+        assertEquals(2, registry.get(SignalMetrics.SIGNAL_LATENCY).tag("signal", "1").timer().count());
+        assertEquals(2, registry.get(SignalMetrics.ACTION_LATENCY).tag("method", "setUp").timer().count());
+        assertEquals(2, registry.get(SignalMetrics.ACTION_LATENCY).tag("method", "setAlgoParam").timer().count());
+        assertTrue(registry.get(SignalMetrics.SIGNAL_LATENCY).tag("signal", "1").timer().max(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void shouldCountFallbacksAndFailures() {
+        signalProcessor.handleSignal(7);
+        assertThrows(ResourceNotFoundException.class, () -> signalProcessor.handleSignal(4));
+
+        assertEquals(1, registry.get(SignalMetrics.SIGNAL_FALLBACKS).counter().count());
+        assertEquals(1, registry.get(SignalMetrics.SIGNAL_LATENCY).tag("signal", SignalMetrics.UNKNOWN_SIGNAL).timer().count());
+        assertEquals(1, registry.get(SignalMetrics.ACTION_LATENCY).tag("method", "cancelTrades").timer().count());
+        assertEquals(1, registry.get(SignalMetrics.ACTION_FAILURES).tag("method", "setAlgoParam").counter().count());
+        assertEquals(1, registry.get(SignalMetrics.SIGNAL_LATENCY).tag("signal", SignalMetrics.OTHER_SIGNAL).timer().count());
+    }
+
+    @Test
+    void shouldRegisterMetersOfReloadedPlan() throws Exception {
+        holder.publish(compile("{\"signals\":[{\"id\":9,\"actions\":[{\"method\":\"reverse\"}]}]}"));
+
+        assertNotNull(registry.find(SignalMetrics.SIGNAL_LATENCY).tag("signal", "9").timer());
+        signalProcessor.handleSignal(9);
+        assertEquals(1, registry.get(SignalMetrics.ACTION_LATENCY).tag("method", "reverse").timer().count());
+    }
+}
@@ -0,0 +1,132 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequencedSignalPipelineTest {
+
+    private final List<Integer> handled = new CopyOnWriteArrayList<>();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private SequencedSignalPipeline pipeline;
+
+    private void start(int capacity, boolean synchronous) {
+        pipeline = new SequencedSignalPipeline(signal -> {
+            threads.add(Thread.currentThread().getName());
+            if (signal == 4) {
+                throw new ResourceNotFoundException("Resource or Method Not found.");
+            }
+            if (signal == 5) {
+                throw new AssertionError("Algo failed");
+            }
+            handled.add(signal);
+        }, capacity, synchronous);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    void shouldProcessSignalsFromManyThreadsOnOneThread() throws Exception {
+        start(4, true);
+        ExecutorService producers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < 8; p++) {
+                futures.add(producers.submit(() -> IntStream.range(0, 500).forEach(i -> pipeline.handleSignal(1))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            producers.shutdown();
+        }
+
+        assertEquals(4000, handled.size());
+        assertEquals(Set.of("signal-pipeline"), threads);
+    }
+
+    @Test
+    void shouldRethrowFailuresInSynchronousMode() {
+        start(16, true);
+
+        assertThrows(ResourceNotFoundException.class, () -> pipeline.handleSignal(4));
+        pipeline.handleSignal(2);
+
+        assertEquals(List.of(2), handled);
+    }
+
+    @Test
+    void shouldSurviveErrorsOfTheHandler() {
+        start(16, true);
+
+        assertThrows(AssertionError.class, () -> pipeline.handleSignal(5));
+        pipeline.handleSignal(2);
+
+        assertEquals(List.of(2), handled);
+    }
+
+    @Test
+    void shouldProcessOrRejectEverySignalWhileStopping() throws Exception {
+        start(8, true);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        try {
+                            pipeline.handleSignal(1);
+                        } catch (IllegalStateException e) {
+                            rejected.incrementAndGet();
+                            return;
+                        }
+                    }
+                }));
+            }
+            Thread.sleep(20);
+            pipeline.stop();
+            for (Future<?> future : futures) {
+                // A signal claimed while stopping must neither be lost nor leave its caller waiting
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+
+        assertEquals(4, rejected.get());
+        pipeline.start();
+        pipeline.handleSignal(2);
+        assertEquals(2, handled.get(handled.size() - 1));
+    }
+
+    @Test
+    void shouldKeepOrderAndDrainOnStopInAsynchronousMode() {
+        start(8, false);
+
+        IntStream.range(0, 1000).forEach(pipeline::handleSignal);
+        pipeline.stop();
+
+        assertEquals(998, handled.size());
+        assertEquals(IntStream.range(0, 1000).filter(i -> i != 4 && i != 5).boxed().toList(), handled);
+        assertThrows(IllegalStateException.class, () -> pipeline.handleSignal(1));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.algo.stubs.SignalHandler;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedSignalHandlerTest {
+
+    private static final int SHARDS = 4;
+
+    private final List<List<Integer>> handled = new ArrayList<>();
+    private final Map<Integer, Set<String>> threads = new ConcurrentHashMap<>();
+    private ShardedSignalHandler sharded;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SignalPlan plan = SignalPlans.parse(
+                "{\"signals\":[{\"id\":1,\"actions\":[]},{\"id\":2,\"shardKey\":\"EURUSD\",\"actions\":[]}]}");
+        List<SignalHandler> shardHandlers = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            List<Integer> shardSignals = new CopyOnWriteArrayList<>();
+            handled.add(shardSignals);
+            int shard = i;
+            shardHandlers.add(signal -> {
+                threads.computeIfAbsent(shard, key -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+                if (signal < 0) {
+                    throw new StackOverflowError();
+                }
+                shardSignals.add(signal);
+            });
+        }
+        sharded = new ShardedSignalHandler(new SignalPlanHolder(plan), shardHandlers, 16);
+        sharded.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sharded.stop();
+    }
+
+    @Test
+    void shouldRunSignalsWithoutKeyOnFirstShard() {
+        sharded.handleSignal(1);
+        sharded.handleSignal(7);
+
+        assertEquals(List.of(1, 7), handled.get(0));
+        assertEquals(Set.of("signal-shard-0"), threads.get(0));
+    }
+
+    @Test
+    void shouldRouteByConfiguredShardKey() {
+        sharded.handleSignal(2);
+
+        assertEquals(List.of(2), handled.get(sharded.shardOf("EURUSD")));
+    }
+
+    @Test
+    void shouldKeepShardAliveAfterError() {
+        int shard = sharded.shardOf("EURUSD");
+        assertThrows(StackOverflowError.class, () -> sharded.handleSignal(-1, "EURUSD"));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> sharded.handleSignal(2));
+
+        assertEquals(List.of(2), handled.get(shard));
+    }
+
+    @Test
+    void shouldKeepOrderWithinKeyAcrossShards() throws Exception {
+        List<String> keys = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+        ExecutorService producers = Executors.newFixedThreadPool(keys.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int k = 0; k < keys.size(); k++) {
+                String key = keys.get(k);
+                int base = k * 1000;
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        sharded.handleSignal(base + i, key);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            producers.shutdown();
+        }
+
+        assertTrue(keys.stream().map(sharded::shardOf).distinct().count() > 1);
+        for (int k = 0; k < keys.size(); k++) {
+            int shard = sharded.shardOf(keys.get(k));
+            int base = k * 1000;
+            List<Integer> ofKey = handled.get(shard).stream().filter(signal -> signal / 1000 * 1000 == base).toList();
+            assertEquals(IntStream.range(base, base + 200).boxed().toList(), ofKey);
+            assertEquals(Set.of("signal-shard-" + shard), threads.get(shard));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import com.bank.trading.exception.SignalRejectedException;
+import com.bank.trading.pipeline.SignalAdmissionController.ShedReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalAdmissionControllerTest {
+
+    private final List<Integer> handled = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blocking = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private SignalPlanHolder signalPlanHolder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        signalPlanHolder = new SignalPlanHolder(SignalPlans.parse(
+                "{\"signals\":[{\"id\":1,\"actions\":[]},{\"id\":2,\"priority\":\"critical\",\"actions\":[]},"
+                        + "{\"id\":3,\"priority\":\"NORMAL\",\"actions\":[]},{\"id\":4,\"actions\":[]}]}"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private SignalAdmissionController admission(int queueCapacity, Duration maxWait, double rate, int burst) {
+        return new SignalAdmissionController(signal -> {
+            if (signal == 3) {
+                blocking.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handled.add(signal);
+        }, signalPlanHolder, 1, queueCapacity, maxWait, rate, burst);
+    }
+
+    private Future<?> blockPermit(SignalAdmissionController admission) throws InterruptedException {
+        Future<?> blocked = executor.submit(() -> admission.handleSignal(3));
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+        return blocked;
+    }
+
+    @Test
+    void shouldShedNormalSignalsWhenSaturatedAndLetCriticalSignalsBypass() throws Exception {
+        SignalAdmissionController admission = admission(1, Duration.ofSeconds(30), 0, 1);
+        Future<?> blocked = blockPermit(admission);
+        Future<?> queued = executor.submit(() -> admission.handleSignal(1));
+        while (admission.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        SignalRejectedException e = assertThrows(SignalRejectedException.class, () -> admission.handleSignal(1));
+        assertEquals("Too many signals in progress, try again later.", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+        admission.handleSignal(2);
+        admission.handleSignal(9);
+        assertEquals(List.of(2, 9), handled);
+        assertEquals(1, admission.getInFlight());
+        assertEquals(1, admission.getShedCount(ShedReason.QUEUE_FULL));
+        assertEquals(2, admission.getBypassedCount());
+
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(2, 9, 3, 1), handled);
+        assertEquals(0, admission.getInFlight());
+        assertEquals(0, admission.getQueueDepth());
+    }
+
+    @Test
+    void shouldShedSignalsThatWaitTooLong() throws Exception {
+        SignalAdmissionController admission = admission(8, Duration.ofMillis(20), 0, 1);
+        blockPermit(admission);
+
+        assertThrows(SignalRejectedException.class, () -> admission.handleSignal(1));
+
+        assertEquals(1, admission.getShedCount(ShedReason.TIMEOUT));
+        assertEquals(0, admission.getQueueDepth());
+        assertTrue(handled.isEmpty());
+    }
+
+    @Test
+    void shouldNotLetNewSignalsOvertakeQueuedOnes() throws Exception {
+        SignalAdmissionController admission = admission(2, Duration.ofSeconds(30), 0, 1);
+        Future<?> blocked = blockPermit(admission);
+        AtomicReference<Thread> waiter = new AtomicReference<>();
+        Future<?> queued = executor.submit(() -> {
+            waiter.set(Thread.currentThread());
+            admission.handleSignal(1);
+        });
+        while (waiter.get() == null || waiter.get().getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // The permit is free now, but signal 1 may not have woken up yet to take it
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        admission.handleSignal(4);
+        queued.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(3, 1, 4), handled);
+    }
+
+    @Test
+    void shouldNotCountSignalsShedByTheQueueAgainstTheRate() throws Exception {
+        SignalAdmissionController admission = admission(1, Duration.ofMillis(20), 1, 2);
+        Future<?> blocked = blockPermit(admission);
+
+        assertThrows(SignalRejectedException.class, () -> admission.handleSignal(1));
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        // The burst of 2 was taken by signal 3 and the timed out signal, which returned its interval
+        admission.handleSignal(1);
+
+        assertEquals(List.of(3, 1), handled);
+        assertEquals(1, admission.getShedCount(ShedReason.TIMEOUT));
+        assertEquals(0, admission.getShedCount(ShedReason.RATE_LIMIT));
+    }
+
+    @Test
+    void shouldLimitTheRateOfNormalSignals() {
+        SignalAdmissionController admission = admission(0, Duration.ZERO, 0.01, 2);
+
+        admission.handleSignal(1);
+        admission.handleSignal(1);
+        assertThrows(SignalRejectedException.class, () -> admission.handleSignal(1));
+        admission.handleSignal(2);
+
+        assertEquals(List.of(1, 1, 2), handled);
+        assertEquals(1, admission.getShedCount(ShedReason.RATE_LIMIT));
+    }
+
+    @Test
+    void shouldPublishMeters() {
+        SignalAdmissionController admission = admission(0, Duration.ZERO, 0.01, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        admission.bindTo(registry);
+
+        admission.handleSignal(1);
+        assertThrows(SignalRejectedException.class, () -> admission.handleSignal(1));
+        admission.handleSignal(2);
+
+        assertEquals(1, registry.get(SignalAdmissionController.SHED).tag("reason", "rate_limit").functionCounter().count());
+        assertEquals(0, registry.get(SignalAdmissionController.SHED).tag("reason", "queue_full").functionCounter().count());
+        assertEquals(1, registry.get(SignalAdmissionController.BYPASSED).functionCounter().count());
+        assertEquals(0, registry.get(SignalAdmissionController.QUEUE_DEPTH).gauge().value());
+        assertEquals(0, registry.get(SignalAdmissionController.IN_FLIGHT).gauge().value());
+    }
+}
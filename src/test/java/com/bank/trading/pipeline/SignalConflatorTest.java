@@ -0,0 +1,160 @@
+package com.bank.trading.pipeline;
+
+import com.bank.trading.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalConflatorTest {
+
+    private final List<Integer> handled = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blocking = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private SignalConflator conflator;
+
+    private void start(Duration window, Map<Integer, Duration> windows) {
+        conflator = new SignalConflator(signal -> {
+            if (signal == 0) {
+                // Keeps the dispatcher busy until the test has queued its signals
+                blocking.countDown();
+                await(release);
+                return;
+            }
+            if (signal == 4) {
+                throw new ResourceNotFoundException("Resource or Method Not found.");
+            }
+            if (signal == 5) {
+                throw new AssertionError("Algo failed");
+            }
+            handled.add(signal);
+        }, window, windows);
+        conflator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        conflator.stop();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldCollapsePendingDuplicates() throws Exception {
+        start(Duration.ZERO, Map.of());
+        Future<?> blocker = callers.submit(() -> conflator.handleSignal(0));
+        blocking.await();
+
+        List<Future<?>> duplicates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            duplicates.add(callers.submit(() -> conflator.handleSignal(2)));
+        }
+        waitForConflated(9);
+        release.countDown();
+        blocker.get();
+        for (Future<?> duplicate : duplicates) {
+            duplicate.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of(2), handled);
+    }
+
+    @Test
+    void shouldKeepOrderBetweenDifferentSignals() throws Exception {
+        start(Duration.ZERO, Map.of());
+        callers.submit(() -> conflator.handleSignal(0));
+        blocking.await();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int signal : new int[]{2, 2, 3, 2, 1, 1}) {
+            futures.add(callers.submit(() -> conflator.handleSignal(signal)));
+            // Queue the signals one after the other
+            Thread.sleep(20);
+        }
+        release.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of(2, 3, 2, 1), handled);
+        assertEquals(2, conflator.getConflatedCount());
+    }
+
+    @Test
+    void shouldShareFailureWithAllCallers() throws Exception {
+        start(Duration.ZERO, Map.of());
+        callers.submit(() -> conflator.handleSignal(0));
+        blocking.await();
+
+        Future<?> first = callers.submit(() -> conflator.handleSignal(4));
+        Future<?> second = callers.submit(() -> conflator.handleSignal(4));
+        waitForConflated(1);
+        release.countDown();
+
+        Throwable firstFailure = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS)).getCause();
+        Throwable secondFailure = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS)).getCause();
+        assertInstanceOf(ResourceNotFoundException.class, firstFailure);
+        assertSame(firstFailure, secondFailure);
+    }
+
+    @Test
+    void shouldSurviveErrorsOfTheHandler() {
+        start(Duration.ZERO, Map.of());
+
+        assertThrows(AssertionError.class, () -> conflator.handleSignal(5));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> conflator.handleSignal(2));
+
+        assertEquals(List.of(2), handled);
+    }
+
+    @Test
+    void shouldWaitForDuplicatesWithinWindowOfSignal() throws Exception {
+        start(Duration.ZERO, Map.of(7, Duration.ofSeconds(2)));
+
+        Future<?> first = callers.submit(() -> conflator.handleSignal(7));
+        Thread.sleep(50);
+        Future<?> second = callers.submit(() -> conflator.handleSignal(7));
+        waitForConflated(1);
+        conflator.handleSignal(3);
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(7, 3), handled);
+    }
+
+    @Test
+    void shouldRejectSignalsWhenStopped() {
+        start(Duration.ZERO, Map.of());
+        conflator.stop();
+
+        assertThrows(IllegalStateException.class, () -> conflator.handleSignal(1));
+    }
+
+    private void waitForConflated(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (conflator.getConflatedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, conflator.getConflatedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
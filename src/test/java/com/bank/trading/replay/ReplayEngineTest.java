@@ -0,0 +1,105 @@
+package com.bank.trading.replay;
+
+import com.bank.trading.config.TradingProperties.FsyncPolicy;
+import com.bank.trading.config.TradingProperties.OverflowPolicy;
+import com.bank.trading.journal.SignalJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(directory.resolve("capture.csv"), content);
+    }
+
+    @Test
+    void shouldReplayCsvCaptureAtMaxSpeed() throws IOException {
+        Path capture = csv("timestampNanos,signalId\n1000,1\n2000,2\n\n# comment\n3000,4\n4000,5\n");
+
+        ReplayReport report = SignalReplay.run(Map.of("capture", capture.toString(),
+                "config", "classpath:signal-config.json"));
+
+        assertEquals(4, report.signals());
+        assertEquals(1, report.failed());
+        assertEquals(-1, report.divergent());
+        assertEquals(4, report.latencies().getTotalCount());
+        assertTrue(report.throughput() > 0);
+        assertTrue(report.toString().contains("signals:      4 (1 failed)"));
+    }
+
+    @Test
+    void shouldReportDivergenceFromBaseline() throws IOException {
+        Path capture = csv("1,1\n2,2\n3,3\n");
+        Path candidate = Files.writeString(directory.resolve("candidate.json"), "{\"signals\":["
+                + "{\"id\":1,\"actions\":[{\"method\":\"setUp\"},{\"method\":\"setAlgoParam\",\"params\":[1,60]},"
+                + "{\"method\":\"performCalc\"},{\"method\":\"submitToMarket\"}]},"
+                + "{\"id\":2,\"actions\":[{\"method\":\"reverse\"},{\"method\":\"setAlgoParam\",\"params\":[1,85]},"
+                + "{\"method\":\"submitToMarket\"}]}]}");
+
+        ReplayReport report = SignalReplay.run(Map.of("capture", capture.toString(), "config", candidate.toString(),
+                "baseline-config", "classpath:signal-config.json", "execution", "compiled"));
+
+        assertEquals(2, report.divergent());
+        assertEquals(2, report.divergences().size());
+        ReplayReport.Divergence first = report.divergences().get(0);
+        assertEquals(1, first.index());
+        assertEquals("[reverse, setAlgoParam(1,80), submitToMarket, doAlgo]", first.expected());
+        assertEquals("[reverse, setAlgoParam(1,85), submitToMarket, doAlgo]", first.actual());
+        assertEquals("[cancelTrades, doAlgo]", report.divergences().get(1).actual());
+    }
+
+    @Test
+    void shouldReplayJournalWithOriginalTiming() throws IOException {
+        SignalJournal journal = new SignalJournal(directory, 1024 * 1024, 16, FsyncPolicy.NONE, Duration.ofSeconds(1),
+                OverflowPolicy.BLOCK);
+        journal.start();
+        for (int i = 0; i < 3; i++) {
+            journal.onAction(null, null, -1, null, 1_000, false);
+            journal.onSignal(null, null, 1, 1_000, false);
+            sleep(30);
+        }
+        journal.stop();
+
+        RecordingAlgo algo = new RecordingAlgo();
+        ReplayEngine engine = new ReplayEngine(signal -> {
+            algo.setUp();
+            algo.doAlgo();
+        }, algo);
+        ReplayReport report;
+        try (SignalCapture capture = new JournalSignalCapture(directory)) {
+            report = engine.replay(capture, ReplayMode.ORIGINAL_TIMING);
+        }
+
+        assertEquals(3, report.signals());
+        assertEquals(6, algo.getTotalCalls());
+        assertTrue(report.elapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(50), report.toString());
+    }
+
+    @Test
+    void shouldRejectMalformedCapture() throws IOException {
+        Path capture = csv("1000;1\n");
+
+        assertThrows(IOException.class, () -> SignalReplay.run(Map.of("capture", capture.toString(),
+                "config", "classpath:signal-config.json")));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
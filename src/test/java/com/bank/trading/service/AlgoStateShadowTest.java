@@ -0,0 +1,83 @@
+package com.bank.trading.service;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import com.bank.trading.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AlgoStateShadowTest {
+
+    private static final String CONFIG = "{\"signals\":["
+            + "{\"id\":1,\"actions\":[{\"method\":\"setUp\"},{\"method\":\"setAlgoParam\",\"params\":[1,60]}]},"
+            + "{\"id\":2,\"actions\":[{\"method\":\"reverse\"},{\"method\":\"setAlgoParam\",\"params\":[1,80]}]},"
+            + "{\"id\":3,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,90]},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[2,15]},{\"method\":\"performCalc\"}]},"
+            + "{\"id\":4,\"actions\":[{\"method\":\"setAlgoParam\",\"params\":[1,90]},{\"method\":\"performCalc\"},"
+            + "{\"method\":\"test\"}]}]}";
+
+    private Algo algo;
+    private AlgoStateShadow shadow;
+    private SignalProcessor signalProcessor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        algo = mock(Algo.class);
+        shadow = new AlgoStateShadow(List.of("setUp", "cancelTrades"));
+        SignalPlan plan = SignalPlans.parse(CONFIG);
+        signalProcessor = new SignalProcessor(algo, new SignalPlanHolder(plan), new AlgoMethodInvoker(), shadow);
+    }
+
+    @Test
+    void shouldSkipCallsThatDoNotChangeParameters() {
+        signalProcessor.handleSignal(3);
+        // Signal 4 fails at its last action, after setting the same parameter as signal 3
+        assertThrows(ResourceNotFoundException.class, () -> signalProcessor.handleSignal(4));
+        signalProcessor.handleSignal(3);
+        verify(algo).setAlgoParam(1, 90);
+        verify(algo).setAlgoParam(2, 15);
+        verify(algo, times(3)).performCalc();
+        assertEquals(3, shadow.getElidedCount());
+
+        signalProcessor.handleSignal(2);
+        signalProcessor.handleSignal(3);
+        verify(algo).setAlgoParam(1, 80);
+        verify(algo, times(2)).setAlgoParam(1, 90);
+        verify(algo).setAlgoParam(2, 15);
+    }
+
+    @Test
+    void shouldForgetParametersAfterResetMethods() {
+        signalProcessor.handleSignal(3);
+        signalProcessor.handleSignal(1);
+        verify(algo).setUp();
+        verify(algo).setAlgoParam(1, 60);
+
+        // Signal 9 is not configured and cancels all trades
+        signalProcessor.handleSignal(9);
+        signalProcessor.handleSignal(3);
+        verify(algo).cancelTrades();
+        verify(algo, times(2)).setAlgoParam(1, 90);
+        verify(algo, times(2)).setAlgoParam(2, 15);
+        assertEquals(0, shadow.getElidedCount());
+    }
+
+    @Test
+    void shouldForgetParameterWhenSettingItFails() {
+        doThrow(new IllegalStateException("rejected")).doNothing().when(algo).setAlgoParam(1, 90);
+        assertThrows(ResourceNotFoundException.class, () -> signalProcessor.handleSignal(3));
+        signalProcessor.handleSignal(3);
+        signalProcessor.handleSignal(3);
+        verify(algo, times(2)).setAlgoParam(1, 90);
+        verify(algo, times(1)).setAlgoParam(2, 15);
+    }
+}
@@ -1,11 +1,15 @@
 package com.bank.trading.service;
 
 import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.client.SignalExecutorCompiler;
 import com.bank.trading.algo.stubs.Algo;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bank.trading.config.SignalConfigParser;
+import com.bank.trading.config.SignalPlan;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.DefaultResourceLoader;
@@ -14,6 +18,7 @@ import org.springframework.core.io.ResourceLoader;
 import java.io.IOException;
 import java.io.InputStream;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -28,16 +33,14 @@ class SignalProcessorTest {
     @BeforeEach
     public void setUp() throws IOException {
         resourceLoader = new DefaultResourceLoader();
-        JsonNode jsonNode = readConfig();
         AlgoMethodInvoker invoker = new AlgoMethodInvoker();
-        signalProcessor = new SignalProcessor(mockAlgo, jsonNode, invoker);
+        signalProcessor = new SignalProcessor(mockAlgo, new SignalPlanHolder(readConfig(null)), invoker);
     }
 
-    public JsonNode readConfig() throws IOException {
+    public SignalPlan readConfig(SignalExecutorCompiler executorCompiler) throws IOException {
         String configFilePath = "classpath:signal-config.json";
         try (InputStream inputStream = resourceLoader.getResource(configFilePath).getInputStream()) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readTree(inputStream);
+            return SignalConfigParser.parse(inputStream, configFilePath, executorCompiler);
         }
     }
 
@@ -63,4 +66,50 @@ class SignalProcessorTest {
         verify(mockAlgo,never()).performCalc();
         verify(mockAlgo,never()).submitToMarket();
     }
+
+    @Test
+    void ShouldHandleSignalWithGeneratedExecutor() throws IOException {
+        SignalProcessor compiledProcessor = new SignalProcessor(mockAlgo,
+                new SignalPlanHolder(readConfig(new SignalExecutorCompiler())), new AlgoMethodInvoker());
+
+        compiledProcessor.handleSignal(3);
+
+        InOrder inOrder = inOrder(mockAlgo);
+        inOrder.verify(mockAlgo).setAlgoParam(1, 90);
+        inOrder.verify(mockAlgo).setAlgoParam(2, 15);
+        inOrder.verify(mockAlgo).performCalc();
+        inOrder.verify(mockAlgo).submitToMarket();
+        inOrder.verify(mockAlgo).doAlgo();
+    }
+
+    @Test
+    void ShouldReportAlgoFailuresAlikeInBothExecutionModes() throws IOException {
+        SignalProcessor compiledProcessor = new SignalProcessor(mockAlgo,
+                new SignalPlanHolder(readConfig(new SignalExecutorCompiler())), new AlgoMethodInvoker());
+        doThrow(new IllegalStateException("rejected")).when(mockAlgo).performCalc();
+
+        ResourceNotFoundException reflective = assertThrows(ResourceNotFoundException.class,
+                () -> signalProcessor.handleSignal(3));
+        ResourceNotFoundException generated = assertThrows(ResourceNotFoundException.class,
+                () -> compiledProcessor.handleSignal(3));
+
+        assertEquals(reflective.getMessage(), generated.getMessage());
+        assertEquals(reflective.getCause().getClass(), generated.getCause().getClass());
+        assertSame(IllegalStateException.class, generated.getCause().getCause().getClass());
+        verify(mockAlgo, never()).doAlgo();
+    }
+
+    @Test
+    void ShouldFailMisconfiguredSignalWithPreallocatedException() {
+        ResourceNotFoundException first = assertThrows(ResourceNotFoundException.class,
+                () -> signalProcessor.handleSignal(4));
+        ResourceNotFoundException second = assertThrows(ResourceNotFoundException.class,
+                () -> signalProcessor.handleSignal(4));
+
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals("Resource or Method Not found.com.bank.trading.algo.stubs.Algo.setAlgoParam()", first.getMessage());
+        verify(mockAlgo, never()).performCalc();
+        verify(mockAlgo, never()).doAlgo();
+    }
 }
@@ -0,0 +1,84 @@
+package com.bank.trading.warmup;
+
+import com.bank.trading.algo.client.AlgoMethodInvoker;
+import com.bank.trading.algo.client.SignalExecutorCompiler;
+import com.bank.trading.algo.stubs.Algo;
+import com.bank.trading.config.SignalPlanHolder;
+import com.bank.trading.config.SignalPlans;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SignalWarmupTest {
+
+    private static final String CONFIG = "{\"signals\":[{\"id\":1,\"actions\":[{\"method\":\"setUp\"},"
+            + "{\"method\":\"setAlgoParam\",\"params\":[1,60]}]},{\"id\":4,\"actions\":[{\"method\":\"setAlgoParam\"}]}]}";
+
+    private SignalPlanHolder holder(SignalExecutorCompiler compiler) throws Exception {
+        return new SignalPlanHolder(SignalPlans.parse(CONFIG, compiler));
+    }
+
+    @Test
+    void shouldHandleEverySignalOnShadowAlgoOnly() throws Exception {
+        AlgoMethodInvoker invoker = spy(new AlgoMethodInvoker());
+        SignalWarmup warmup = new SignalWarmup(holder(null), invoker, Algo.class, 100, Duration.ofSeconds(30));
+
+        // Signals 1 and 4 plus the unconfigured fallback, 100 times each
+        assertEquals(300, warmup.warmUp());
+
+        // Signal 1: setUp, setAlgoParam, doAlgo; signal 4 fails before doAlgo; fallback: cancelTrades, doAlgo
+        assertEquals(500, warmup.getShadowAlgo().getCalls());
+        verify(invoker).prepare(Algo.class, "setUp", null);
+        verify(invoker).prepare(eq(Algo.class), eq("setAlgoParam"), any(Object[].class));
+        verify(invoker, never()).invokeMethodNoArgs(argThat(algo -> !(algo instanceof ShadowAlgo)), anyString());
+        verify(invoker, never()).invokeMethodWithArgs(argThat(algo -> !(algo instanceof ShadowAlgo)), anyString(),
+                any(Object[].class));
+    }
+
+    @Test
+    void shouldWarmUpGeneratedExecutors() throws Exception {
+        SignalWarmup warmup = new SignalWarmup(holder(new SignalExecutorCompiler()), new AlgoMethodInvoker(),
+                Algo.class, 10, Duration.ofSeconds(30));
+
+        assertEquals(30, warmup.warmUp());
+        assertEquals(50, warmup.getShadowAlgo().getCalls());
+    }
+
+    @Test
+    void shouldStopAtTimeout() throws Exception {
+        SignalWarmup warmup = new SignalWarmup(holder(null), new AlgoMethodInvoker(), Algo.class, Integer.MAX_VALUE,
+                Duration.ZERO);
+
+        assertEquals(0, warmup.warmUp());
+    }
+
+    @Test
+    void shouldWarmUpWhenStarted() throws Exception {
+        SignalWarmup warmup = new SignalWarmup(holder(null), new AlgoMethodInvoker(), Algo.class, 10,
+                Duration.ofSeconds(30));
+
+        warmup.start();
+
+        assertTrue(warmup.isRunning());
+        assertEquals(50, warmup.getShadowAlgo().getCalls());
+        warmup.start();
+        assertEquals(50, warmup.getShadowAlgo().getCalls());
+    }
+
+    @Test
+    void shadowAlgoShouldOverrideEveryAlgoMethod() throws Exception {
+        for (Method method : Algo.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers())) {
+                assertEquals(ShadowAlgo.class,
+                        ShadowAlgo.class.getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass(),
+                        method.getName());
+            }
+        }
+    }
+}